@@ -0,0 +1,168 @@
+package org.exclover;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Toplu insert'lerde her executeBatch çağrısına kaç satır gönderileceğini belirler.
+ * Sabit modda boyut değişmez; uyarlamalı modda ölçülen batch süresi ve tahmini satır genişliğine göre ayarlanır.
+ * Her yükleme için yeni bir nesne oluşturulur, thread güvenli değildir.
+ */
+class BatchSizer {
+    static final int DEFAULT_BATCH_SIZE = 100;
+    static final long DEFAULT_TARGET_MILLIS = 50;
+
+    private static final int MIN_BATCH_SIZE = 10;
+    private static final int MAX_BATCH_SIZE = 50_000;
+    // Tek batch'in tahmini boyutu bu sınırı geçmez (geniş satırlarda paket/bellek taşmasını önler)
+    private static final long MAX_BATCH_BYTES = 4L * 1024 * 1024;
+    private static final int WIDTH_SAMPLE_ROWS = 64;
+
+    private final boolean adaptive;
+    private final long targetNanos;
+    private int batchSize;
+    private boolean multiRow = false;
+
+    private long sampledBytes = 0;
+    private int sampledRows = 0;
+
+    private BatchSizer(int batchSize, boolean adaptive, long targetMillis) {
+        this.batchSize = batchSize;
+        this.adaptive = adaptive;
+        this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+    }
+
+    /**
+     * Sabit boyutlu batch
+     * @param batchSize Batch başına satır sayısı
+     * @return BatchSizer nesnesi
+     */
+    static BatchSizer fixed(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch boyutu en az 1 olmalıdır");
+        }
+        return new BatchSizer(batchSize, false, DEFAULT_TARGET_MILLIS);
+    }
+
+    /**
+     * Uyarlamalı batch: batch süresi hedefin yarısından kısaysa boyut ikiye katlanır,
+     * hedefi aşarsa orantılı olarak küçültülür.
+     * @param initialSize Başlangıç boyutu
+     * @param targetMillis Bir batch için hedef süre
+     * @return BatchSizer nesnesi
+     */
+    static BatchSizer adaptive(int initialSize, long targetMillis) {
+        if (targetMillis < 1) {
+            throw new IllegalArgumentException("Hedef batch süresi en az 1 ms olmalıdır");
+        }
+        return new BatchSizer(clamp(initialSize), true, targetMillis);
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Batch'i addBatch yerine tek bir çok satırlı INSERT ... VALUES (...),(...) ifadesi olarak gönderir
+     * @return BatchSizer nesnesi
+     */
+    BatchSizer multiRow() {
+        this.multiRow = true;
+        return this;
+    }
+
+    boolean isMultiRow() {
+        return multiRow;
+    }
+
+    /**
+     * Satır genişliği tahmini için satırı örnekler (ilk birkaç satır yeterlidir)
+     * @param values Satırın değerleri
+     */
+    void recordRow(Collection<Object> values) {
+        if (!adaptive || sampledRows >= WIDTH_SAMPLE_ROWS) {
+            return;
+        }
+        for (Object value : values) {
+            sampledBytes += estimateSize(value);
+        }
+        sampledRows++;
+    }
+
+    /**
+     * Tamamlanan batch'in süresine göre bir sonraki batch boyutunu ayarlar
+     * @param rows Batch'teki satır sayısı
+     * @param elapsedNanos Batch süresi
+     */
+    void batchCompleted(int rows, long elapsedNanos) {
+        if (!adaptive) {
+            return;
+        }
+        int next = batchSize;
+        // Yarım kalan son batch ölçüm için anlamlı değildir
+        if (rows >= batchSize) {
+            if (elapsedNanos < targetNanos / 2) {
+                next = batchSize * 2;
+            } else if (elapsedNanos > targetNanos) {
+                next = (int) (batchSize * (double) targetNanos / elapsedNanos);
+            }
+        }
+
+        long rowBytes = getAverageRowBytes();
+        if (rowBytes > 0) {
+            next = (int) Math.min(next, MAX_BATCH_BYTES / rowBytes);
+        }
+        batchSize = clamp(next);
+    }
+
+    /**
+     * Örneklenen satırların ortalama tahmini boyutu
+     * @return Bayt cinsinden ortalama satır boyutu, örnek yoksa 0
+     */
+    long getAverageRowBytes() {
+        return sampledRows == 0 ? 0 : sampledBytes / sampledRows;
+    }
+
+    /**
+     * Kayıtların ilk satırlarından ortalama satır boyutunu tahmin eder
+     * @param rows Kayıtlar
+     * @return Bayt cinsinden ortalama satır boyutu
+     */
+    static long estimateRowBytes(List<Map<String, Object>> rows) {
+        int sample = Math.min(rows.size(), WIDTH_SAMPLE_ROWS);
+        if (sample == 0) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < sample; i++) {
+            for (Object value : rows.get(i).values()) {
+                bytes += estimateSize(value);
+            }
+        }
+        return bytes / sample;
+    }
+
+    private static int clamp(int size) {
+        return Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, size));
+    }
+
+    private static long estimateSize(Object value) {
+        if (value == null) {
+            return 1;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof java.util.Date) {
+            return 8;
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        // UTF-8 için yaklaşık değer
+        return value.toString().length() + 2;
+    }
+}
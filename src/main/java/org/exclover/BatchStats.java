@@ -0,0 +1,70 @@
+package org.exclover;
+
+/**
+ * Bir toplu yüklemenin sonuç istatistikleri
+ */
+public class BatchStats {
+    private final int rows;
+    private final int batches;
+    private final long elapsedNanos;
+    private final int finalBatchSize;
+    private final long[] generatedKeys;
+
+    /**
+     * BatchStats constructor
+     * @param rows Eklenen satır sayısı
+     * @param batches Gönderilen batch sayısı
+     * @param elapsedNanos Toplam süre
+     * @param finalBatchSize Yükleme sonundaki batch boyutu
+     * @param generatedKeys Üretilen anahtarlar (istenmediyse null)
+     */
+    BatchStats(int rows, int batches, long elapsedNanos, int finalBatchSize, long[] generatedKeys) {
+        this.rows = rows;
+        this.batches = batches;
+        this.elapsedNanos = elapsedNanos;
+        this.finalBatchSize = finalBatchSize;
+        this.generatedKeys = generatedKeys;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * Uyarlamalı modda ulaşılan, sabit modda ayarlanan batch boyutu
+     * @return Batch boyutu
+     */
+    public int getFinalBatchSize() {
+        return finalBatchSize;
+    }
+
+    /**
+     * Saniyedeki satır sayısı
+     * @return Satır/saniye
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Eklenen satırların üretilen anahtarları, kayıtlarla aynı sırada
+     * @return Anahtar dizisi, anahtarlar istenmediyse null
+     */
+    public long[] getGeneratedKeys() {
+        return generatedKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchStats [rows=" + rows + ", batches=" + batches + ", elapsed=" + getElapsedMillis() +
+                "ms, rowsPerSecond=" + String.format("%.0f", getRowsPerSecond()) + ", batchSize=" + finalBatchSize + "]";
+    }
+}
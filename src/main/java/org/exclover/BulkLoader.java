@@ -0,0 +1,726 @@
+package org.exclover;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * BulkLoader sınıfı - Büyük veri dosyalarını tabloya yüklemek için Fluent API sağlar.
+ * Satırlar okunurken doğrudan PreparedStatement'a bağlanır ve batch'ler halinde gönderilir;
+ * commitEvery satırda bir commit edilir. Bellek kullanımı dosya boyutundan bağımsızdır.
+ * parallelism ile veri bölümlere ayrılıp birden fazla bağlantı üzerinden paralel yüklenebilir.
+ */
+public class BulkLoader {
+    static final int DEFAULT_BATCH_SIZE = 1000;
+    static final int DEFAULT_COMMIT_ROWS = 100_000;
+    // Bölümlere ayrılan dosyalarda her bölüm en az bu kadar bayt içerir
+    private static final long MIN_PARTITION_BYTES = 1024 * 1024;
+    // Stream yüklemesinde yükleyicilere verinin bittiğini bildiren işaret
+    private static final List<Map<String, Object>> END_OF_STREAM = new ArrayList<>();
+
+    /**
+     * Alanların dönüştürüleceği sütun türü
+     */
+    private enum ColumnKind {
+        INTEGER, REAL, DECIMAL, BOOLEAN, TEXT
+    }
+
+    /**
+     * Bir bölümü verilen bağlantı üzerinde yükleyen iş
+     */
+    private interface PartitionTask {
+        void load(PooledConnection pooled, long[] counts) throws SQLException;
+    }
+
+    /**
+     * Sonraki kaydı statement'a bağlar
+     */
+    private interface RowBinder {
+        boolean bindNext(PreparedStatement pstmt) throws SQLException, IOException;
+    }
+
+    /**
+     * Kuyruktaki parçaları tek tek kayıt olarak döndürür, END_OF_STREAM görünce biter.
+     * Besleyen thread hata verirse (abort dolarsa) istisna fırlatır; yükleyici geri alıp bağlantısını bırakır.
+     */
+    private static class ChunkIterator implements Iterator<Map<String, Object>> {
+        private final BlockingQueue<List<Map<String, Object>>> queue;
+        private final AtomicReference<Throwable> abort;
+        private Iterator<Map<String, Object>> current = Collections.emptyIterator();
+        private boolean finished = false;
+
+        ChunkIterator(BlockingQueue<List<Map<String, Object>>> queue, AtomicReference<Throwable> abort) {
+            this.queue = queue;
+            this.abort = abort;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && !finished) {
+                Throwable cause = abort.get();
+                if (cause != null) {
+                    throw new IllegalStateException("Stream source failed: " + cause.getMessage(), cause);
+                }
+                try {
+                    List<Map<String, Object>> chunk = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (chunk == END_OF_STREAM) {
+                        finished = true;
+                    } else if (chunk != null) {
+                        current = chunk.iterator();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for rows", e);
+                }
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    private final DBManager database;
+    private final String tableName;
+    private char delimiter = ',';
+    private boolean header = true;
+    private List<String> columns;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int commitRows = DEFAULT_COMMIT_ROWS;
+    private int parallelism = 1;
+    private boolean deferIndexes = false;
+
+    /**
+     * BulkLoader constructor
+     * @param database Database nesnesi
+     * @param tableName Tablo adı
+     */
+    public BulkLoader(DBManager database, String tableName) {
+        this.database = database;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Alan ayracını belirler (varsayılan ',')
+     * @param delimiter Ayraç karakteri
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader delimiter(char delimiter) {
+        this.delimiter = delimiter;
+        return this;
+    }
+
+    /**
+     * Alanlar sekme ile ayrılmıştır (TSV)
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader tsv() {
+        return delimiter('\t');
+    }
+
+    /**
+     * İlk satırın sütun adlarını içerip içermediğini belirler (varsayılan true)
+     * @param header Başlık satırı varsa true
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader header(boolean header) {
+        this.header = header;
+        return this;
+    }
+
+    /**
+     * Dosyadaki alanların sırasıyla karşılık geldiği sütunları belirler.
+     * Belirtilmezse başlık satırı, başlık da yoksa tablonun tüm sütunları kullanılır.
+     * @param columns Sütun adları
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader columns(String... columns) {
+        this.columns = new ArrayList<>(Arrays.asList(columns));
+        return this;
+    }
+
+    /**
+     * Her executeBatch çağrısında gönderilecek satır sayısını belirler (varsayılan 1000)
+     * @param batchSize Batch boyutu
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch boyutu en az 1 olmalıdır");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Kaç satırda bir commit edileceğini belirler (varsayılan 100000)
+     * @param commitRows Commit başına satır sayısı
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader commitEvery(int commitRows) {
+        if (commitRows < 1) {
+            throw new IllegalArgumentException("Commit aralığı en az 1 satır olmalıdır");
+        }
+        this.commitRows = commitRows;
+        return this;
+    }
+
+    /**
+     * Yüklemenin kaç bölüme ayrılacağını belirler (varsayılan 1).
+     * Her bölüm kendi thread'inde, kendi bağlantısında ve transaction'ında yüklenir; aynı anda çalışan
+     * bölüm sayısı yazma havuzunun boyutunu geçmez (SQLite'ta bölümler sırayla yüklenir).
+     * Birden fazla bölüm, dıştaki bir transaction'a dahil olmaz.
+     * @param parallelism Bölüm sayısı
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Paralellik en az 1 olmalıdır");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Tablonun UNIQUE olmayan ikincil indekslerini yükleme öncesinde kaldırır ve yükleme sonunda yeniden oluşturur.
+     * Dolu bir tabloya yapılan ilk büyük yüklemelerde satır başına indeks güncellemesinden kaçınılır.
+     * Yükleme başarısız olursa indeksler yine de geri oluşturulur. MySQL'de DDL açık transaction'ı commit ettiği için
+     * transaction içinde kullanılmamalıdır.
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader deferIndexes() {
+        this.deferIndexes = true;
+        return this;
+    }
+
+    /**
+     * CSV/TSV dosyasını tabloya yükler. Alanlar getTableStructure'dan okunan sütun türlerine dönüştürülür;
+     * tırnaksız boş alanlar NULL olarak eklenir. parallelism 1'den büyükse dosya bayt aralıklarına bölünür.
+     * Bir bölüm hata verirse o bölümün commit edilmemiş satırları geri alınır, diğer bölümler devam eder.
+     * @param path Dosya yolu
+     * @return Yükleme sonucu (bölüm hataları dahil), dosya veya tablo okunamazsa null
+     */
+    public LoadResult fromCsv(Path path) {
+        try {
+            return fromCsvChecked(path);
+        } catch (SQLException e) {
+            System.err.println("CSV yükleme hatası: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * CSV/TSV dosyasını tabloya asenkron yükler
+     * @param path Dosya yolu
+     * @return Yükleme sonucuyla tamamlanan future, dosya veya tablo okunamazsa SQLException ile tamamlanır
+     */
+    public CompletableFuture<LoadResult> fromCsvAsync(Path path) {
+        return database.supplyAsync(() -> fromCsvChecked(path));
+    }
+
+    /**
+     * CSV/TSV dosyasını tabloya yükler
+     * @param path Dosya yolu
+     * @return Yükleme sonucu
+     * @throws SQLException Dosya, tablo yapısı veya indeks bilgisi okunamazsa
+     */
+    LoadResult fromCsvChecked(Path path) throws SQLException {
+        return withDeferredIndexes(() -> loadCsv(path));
+    }
+
+    private LoadResult loadCsv(Path path) throws SQLException {
+        long start = System.nanoTime();
+        Map<String, ColumnKind> tableColumns = readColumnKinds();
+
+        List<String> columnList = columns;
+        long size;
+        try (CsvReader reader = new CsvReader(path, delimiter)) {
+            size = Files.size(path);
+            if (header && reader.next()) {
+                List<String> headerColumns = new ArrayList<>();
+                for (int i = 0; i < reader.getFieldCount(); i++) {
+                    headerColumns.add(reader.getString(i).trim());
+                }
+                if (columnList == null) {
+                    columnList = headerColumns;
+                }
+            }
+        } catch (IOException e) {
+            throw new SQLException("CSV okunamadı: " + e.getMessage(), e);
+        }
+        if (columnList == null) {
+            columnList = new ArrayList<>(tableColumns.keySet());
+        }
+
+        ColumnKind[] kinds = new ColumnKind[columnList.size()];
+        for (int i = 0; i < kinds.length; i++) {
+            kinds[i] = tableColumns.get(columnList.get(i).toLowerCase(Locale.ROOT));
+            if (kinds[i] == null) {
+                throw new SQLException("Column not found in table " + tableName + ": " + columnList.get(i));
+            }
+        }
+
+        List<String> insertColumns = columnList;
+        // Küçük dosyalar bölünmez
+        int partitions = (int) Math.max(1, Math.min(parallelism, size / MIN_PARTITION_BYTES));
+        List<PartitionTask> tasks = new ArrayList<>();
+        for (int p = 0; p < partitions; p++) {
+            long from = size * p / partitions;
+            long to = size * (p + 1) / partitions;
+            boolean skipHeader = p == 0 && header;
+            tasks.add((pooled, counts) -> {
+                try (CsvReader reader = new CsvReader(path, delimiter, from, to)) {
+                    if (skipHeader) {
+                        reader.next();
+                    }
+                    loadRows(pooled, insertColumns, counts, pstmt -> {
+                        if (!reader.next()) {
+                            return false;
+                        }
+                        if (reader.getFieldCount() != kinds.length) {
+                            throw new SQLException("Record " + (counts[0] + 1) + ": expected " + kinds.length +
+                                    " fields, found " + reader.getFieldCount());
+                        }
+                        for (int i = 0; i < kinds.length; i++) {
+                            bindField(pstmt, i + 1, reader, i, kinds[i]);
+                        }
+                        return true;
+                    });
+                } catch (IOException e) {
+                    throw new SQLException("CSV okunamadı: " + e.getMessage(), e);
+                }
+            });
+        }
+        return collect(startPartitions(tasks), start, String.valueOf(path.getFileName()));
+    }
+
+    /**
+     * Kayıt listesini tabloya yükler. parallelism 1'den büyükse liste ardışık bölümlere ayrılır
+     * ve her bölüm kendi bağlantısında, kendi transaction'ında yüklenir.
+     * @param valuesList Kayıtlar (sütunlar ilk kayıttan alınır)
+     * @return Yükleme sonucu (bölüm hataları dahil), indeks bilgisi okunamazsa null
+     */
+    public LoadResult fromList(List<Map<String, Object>> valuesList) {
+        try {
+            return withDeferredIndexes(() -> loadList(valuesList));
+        } catch (SQLException e) {
+            System.err.println("Toplu yükleme hatası: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private LoadResult loadList(List<Map<String, Object>> valuesList) {
+        long start = System.nanoTime();
+        if (valuesList.isEmpty()) {
+            return new LoadResult(0, 0, 0, new ArrayList<>());
+        }
+        List<String> columnList = new ArrayList<>(valuesList.get(0).keySet());
+
+        int partitions = Math.max(1, Math.min(parallelism, valuesList.size() / batchSize));
+        List<PartitionTask> tasks = new ArrayList<>();
+        for (int p = 0; p < partitions; p++) {
+            List<Map<String, Object>> part = valuesList.subList(valuesList.size() * p / partitions,
+                    valuesList.size() * (p + 1) / partitions);
+            tasks.add((pooled, counts) -> loadRows(pooled, columnList, counts, mapBinder(part.iterator(), columnList)));
+        }
+        return collect(startPartitions(tasks), start, "list");
+    }
+
+    /**
+     * Kayıt listesini tabloya asenkron yükler
+     * @param valuesList Kayıtlar
+     * @return Yükleme sonucuyla tamamlanan future
+     */
+    public CompletableFuture<LoadResult> fromListAsync(List<Map<String, Object>> valuesList) {
+        return database.supplyAsync(() -> withDeferredIndexes(() -> loadList(valuesList)));
+    }
+
+    /**
+     * Stream'deki kayıtları tabloya yükler. Stream çağıran thread'de okunur, batchSize'lık parçalar halinde
+     * sınırlı bir kuyruk üzerinden yükleyici thread'lere dağıtılır; her yükleyici kendi transaction'ını kullanır.
+     * @param stream Kayıtlar (sütunlar ilk kayıttan alınır)
+     * @return Yükleme sonucu (bölüm hataları dahil), indeks bilgisi okunamazsa null
+     */
+    public LoadResult fromStream(Stream<Map<String, Object>> stream) {
+        try {
+            return withDeferredIndexes(() -> loadStream(stream));
+        } catch (SQLException e) {
+            System.err.println("Toplu yükleme hatası: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private LoadResult loadStream(Stream<Map<String, Object>> stream) {
+        long start = System.nanoTime();
+        Iterator<Map<String, Object>> source = stream.iterator();
+        if (!source.hasNext()) {
+            return new LoadResult(0, 0, 0, new ArrayList<>());
+        }
+        Map<String, Object> first = source.next();
+        List<String> columnList = new ArrayList<>(first.keySet());
+
+        int workers = Math.min(parallelism, database.getConnectionPool().getMaxSize());
+        if (workers <= 1) {
+            Iterator<Map<String, Object>> rows = Stream.concat(Stream.of(first),
+                    StreamSupport.stream(Spliterators.spliteratorUnknownSize(source, 0), false)).iterator();
+            List<PartitionTask> tasks = new ArrayList<>();
+            tasks.add((pooled, counts) -> loadRows(pooled, columnList, counts, mapBinder(rows, columnList)));
+            return collect(startPartitions(tasks), start, "stream");
+        }
+
+        BlockingQueue<List<Map<String, Object>>> queue = new ArrayBlockingQueue<>(workers * 2);
+        AtomicInteger activeWorkers = new AtomicInteger(workers);
+        // Stream okunamazsa veya besleme kesilirse yükleyicilere bildirilir
+        AtomicReference<Throwable> abort = new AtomicReference<>();
+        List<PartitionTask> tasks = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            tasks.add((pooled, counts) -> {
+                try {
+                    loadRows(pooled, columnList, counts, mapBinder(new ChunkIterator(queue, abort), columnList));
+                } finally {
+                    activeWorkers.decrementAndGet();
+                }
+            });
+        }
+        List<Future<LoadResult.Partition>> futures = startPartitions(tasks);
+
+        List<Map<String, Object>> chunk = new ArrayList<>(batchSize);
+        chunk.add(first);
+        boolean fed = false;
+        try {
+            while (source.hasNext()) {
+                chunk.add(source.next());
+                if (chunk.size() >= batchSize) {
+                    if (!offer(queue, chunk, activeWorkers)) {
+                        break;
+                    }
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                offer(queue, chunk, activeWorkers);
+            }
+            for (int w = 0; w < workers; w++) {
+                if (!offer(queue, END_OF_STREAM, activeWorkers)) {
+                    break;
+                }
+            }
+            fed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort.set(e);
+        } catch (RuntimeException e) {
+            // Kaynağın hatası bölüm hatası olarak raporlanır, tek yükleyicili yoldaki gibi
+            abort.set(e);
+        } finally {
+            if (!fed) {
+                abort.compareAndSet(null, new IllegalStateException("Stream feeding stopped"));
+            }
+        }
+        return collect(futures, start, "stream");
+    }
+
+    /**
+     * Stream'deki kayıtları tabloya asenkron yükler
+     * @param stream Kayıtlar
+     * @return Yükleme sonucuyla tamamlanan future
+     */
+    public CompletableFuture<LoadResult> fromStreamAsync(Stream<Map<String, Object>> stream) {
+        return database.supplyAsync(() -> withDeferredIndexes(() -> loadStream(stream)));
+    }
+
+    /**
+     * deferIndexes açıksa ikincil indeksleri yükleme boyunca kaldırır; yükleme başarısız olsa da geri oluşturur
+     * @param load Yükleme işi
+     * @return Yükleme sonucu
+     * @throws SQLException İndeks bilgisi okunamazsa veya yükleme başlatılamazsa
+     */
+    private LoadResult withDeferredIndexes(DBManager.SqlCall<LoadResult> load) throws SQLException {
+        if (!deferIndexes) {
+            return load.call();
+        }
+        DeferredIndexes indexes = DeferredIndexes.drop(database, tableName);
+        LoadResult result = null;
+        try {
+            result = load.call();
+        } finally {
+            List<String> unrestored = indexes.restore();
+            if (result != null) {
+                result.setUnrestoredIndexes(unrestored);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parçayı kuyruğa ekler; tüm yükleyiciler hata verip durduysa bekleme sonsuza kadar sürmez
+     * @return Eklendiyse true, çalışan yükleyici kalmadıysa false
+     */
+    private static boolean offer(BlockingQueue<List<Map<String, Object>>> queue, List<Map<String, Object>> chunk,
+                                 AtomicInteger activeWorkers) throws InterruptedException {
+        while (activeWorkers.get() > 0) {
+            if (queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bölümleri başlatır. Tek bölüm çağıran thread'de çalışır (açık transaction varsa ona katılır);
+     * birden fazla bölüm, yazma havuzu boyutunu geçmeyen sayıda ayrı thread'de çalışır.
+     * @param tasks Bölüm işleri
+     * @return Bölüm sonuçlarının future'ları
+     */
+    private List<Future<LoadResult.Partition>> startPartitions(List<PartitionTask> tasks) {
+        List<Future<LoadResult.Partition>> futures = new ArrayList<>();
+        if (tasks.size() == 1) {
+            futures.add(CompletableFuture.completedFuture(runPartition(0, tasks.get(0))));
+            return futures;
+        }
+
+        // SQLite'ta havuz tek bağlantılı olduğundan bölümler sırayla yüklenir
+        int threads = Math.min(tasks.size(), database.getConnectionPool().getMaxSize());
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService loaders = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "BulkLoader-" + tableName + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                int index = i;
+                PartitionTask task = tasks.get(i);
+                futures.add(loaders.submit(() -> runPartition(index, task)));
+            }
+        } finally {
+            // Gönderilen işler tamamlanınca thread'ler kapanır
+            loaders.shutdown();
+        }
+        return futures;
+    }
+
+    private LoadResult.Partition runPartition(int index, PartitionTask task) {
+        long start = System.nanoTime();
+        long[] counts = new long[3];
+        try {
+            database.withConnection(false, pooled -> {
+                task.load(pooled, counts);
+                return null;
+            });
+            return new LoadResult.Partition(index, counts[1], (int) counts[2], System.nanoTime() - start, null);
+        } catch (SQLException | RuntimeException e) {
+            SQLException error = e instanceof SQLException ? (SQLException) e : new SQLException(e.getMessage(), e);
+            return new LoadResult.Partition(index, counts[1], (int) counts[2], System.nanoTime() - start, error);
+        }
+    }
+
+    /**
+     * Bölüm sonuçlarını bekleyip birleştirir
+     */
+    private LoadResult collect(List<Future<LoadResult.Partition>> futures, long start, String source) {
+        List<LoadResult.Partition> partitions = new ArrayList<>();
+        long rows = 0;
+        int batches = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            LoadResult.Partition partition;
+            try {
+                partition = futures.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                partition = new LoadResult.Partition(i, 0, 0, 0, new SQLException("Interrupted while loading", e));
+            } catch (ExecutionException e) {
+                partition = new LoadResult.Partition(i, 0, 0, 0, new SQLException(e.getCause()));
+            }
+            if (partition.getError() != null) {
+                System.err.println("Bulk load partition " + i + " failed: " + partition.getError().getMessage());
+            }
+            rows += partition.getRows();
+            batches += partition.getBatches();
+            partitions.add(partition);
+        }
+
+        LoadResult result = new LoadResult(rows, batches, System.nanoTime() - start, partitions);
+        System.out.println("Loaded " + source + " into table: " + tableName + ", " + result);
+        return result;
+    }
+
+    /**
+     * Kayıtları okuyup batch'ler halinde ekler. Bağlantı otomatik commit modundaysa commitRows satırda bir
+     * commit edilir; dıştaki bir transaction içindeyse commit ona bırakılır.
+     * @param counts {okunan satır, commit edilen satır, batch sayısı}; hata durumunda da güncel kalır
+     */
+    private void loadRows(PooledConnection pooled, List<String> columnList, long[] counts,
+                          RowBinder binder) throws SQLException {
+        Connection connection = pooled.getConnection();
+        boolean ownTransaction = connection.getAutoCommit();
+        if (ownTransaction) {
+            connection.setAutoCommit(false);
+        }
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = pooled.prepare(DBManager.buildInsertSql(tableName, columnList, 1));
+            int batchRows = 0;
+            int uncommittedRows = 0;
+            while (binder.bindNext(pstmt)) {
+                pstmt.addBatch();
+                counts[0]++;
+                batchRows++;
+
+                if (batchRows >= batchSize) {
+                    pstmt.executeBatch();
+                    counts[2]++;
+                    uncommittedRows += batchRows;
+                    batchRows = 0;
+                    if (ownTransaction && uncommittedRows >= commitRows) {
+                        connection.commit();
+                        counts[1] += uncommittedRows;
+                        uncommittedRows = 0;
+                    }
+                }
+            }
+
+            if (batchRows > 0) {
+                pstmt.executeBatch();
+                counts[2]++;
+                uncommittedRows += batchRows;
+            }
+            if (ownTransaction) {
+                connection.commit();
+            }
+            counts[1] += uncommittedRows;
+        } catch (SQLException | IOException | RuntimeException e) {
+            if (pstmt != null) {
+                PooledConnection.discardBatch(pstmt, e);
+            }
+            if (ownTransaction) {
+                connection.rollback();
+            }
+            if (e instanceof SQLException) {
+                throw (SQLException) e;
+            }
+            throw new SQLException(e.getMessage(), e);
+        } finally {
+            if (ownTransaction) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static RowBinder mapBinder(Iterator<Map<String, Object>> rows, List<String> columnList) {
+        return pstmt -> {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            Map<String, Object> record = rows.next();
+            for (int i = 0; i < columnList.size(); i++) {
+                pstmt.setObject(i + 1, record.get(columnList.get(i)));
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Alanı sütun türüne göre dönüştürüp bağlar. Dönüştürülemeyen değerler metin olarak gönderilir.
+     */
+    private static void bindField(PreparedStatement pstmt, int index, CsvReader reader, int field,
+                                  ColumnKind kind) throws SQLException {
+        if (reader.isNull(field)) {
+            pstmt.setObject(index, null);
+            return;
+        }
+        switch (kind) {
+            case INTEGER:
+                if (reader.isLong(field)) {
+                    pstmt.setLong(index, reader.getLong(field));
+                    return;
+                }
+                // MySQL'de BOOLEAN sütunlar TINYINT olarak görünür
+                if (reader.equalsIgnoreCase(field, "true") || reader.equalsIgnoreCase(field, "false")) {
+                    pstmt.setInt(index, reader.equalsIgnoreCase(field, "true") ? 1 : 0);
+                    return;
+                }
+                break;
+            case BOOLEAN:
+                pstmt.setBoolean(index, reader.equalsIgnoreCase(field, "true") || reader.equalsIgnoreCase(field, "1"));
+                return;
+            case REAL:
+                try {
+                    pstmt.setDouble(index, Double.parseDouble(reader.getString(field)));
+                    return;
+                } catch (NumberFormatException e) {
+                    break;
+                }
+            case DECIMAL:
+                try {
+                    pstmt.setBigDecimal(index, new BigDecimal(reader.getString(field)));
+                    return;
+                } catch (NumberFormatException e) {
+                    break;
+                }
+            default:
+                break;
+        }
+        pstmt.setString(index, reader.getString(field));
+    }
+
+    /**
+     * Tablonun sütunlarını ve dönüştürme türlerini getTableStructure'dan okur
+     * @return Küçük harfli sütun adı - tür eşlemeleri, tablo sırasıyla
+     */
+    private Map<String, ColumnKind> readColumnKinds() throws SQLException {
+        List<Map<String, Object>> structure = database.getTableStructure(tableName);
+        if (structure.isEmpty()) {
+            throw new SQLException("Table not found or has no columns: " + tableName);
+        }
+        Map<String, ColumnKind> kinds = new LinkedHashMap<>();
+        for (Map<String, Object> column : structure) {
+            String type = String.valueOf(column.get("type")).toUpperCase(Locale.ROOT);
+            ColumnKind kind;
+            if (type.contains("BOOL")) {
+                kind = ColumnKind.BOOLEAN;
+            } else if (type.contains("INT")) {
+                kind = ColumnKind.INTEGER;
+            } else if (type.contains("REAL") || type.contains("DOUB") || type.contains("FLOA")) {
+                kind = ColumnKind.REAL;
+            } else if (type.contains("DEC") || type.contains("NUMERIC")) {
+                kind = ColumnKind.DECIMAL;
+            } else {
+                kind = ColumnKind.TEXT;
+            }
+            kinds.put(String.valueOf(column.get("name")).toLowerCase(Locale.ROOT), kind);
+        }
+        return kinds;
+    }
+}
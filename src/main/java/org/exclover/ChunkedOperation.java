@@ -0,0 +1,229 @@
+package org.exclover;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Büyük DELETE / UPDATE işlemlerini anahtar aralıklarına bölerek çalıştırır.
+ * Her parça ayrı bir ifade olarak çalışır ve hemen commit edilir; böylece kilitler kısa tutulur,
+ * WAL / undo log büyümez ve parçalar arasında bekleme yapılarak canlı trafiğe yer açılır.
+ * İşlem başladığı andaki en büyük anahtara kadar olan satırları kapsar, sonradan eklenen satırlara dokunmaz.
+ * Bir transaction içinden çağrılırsa parçalar o transaction'ın bağlantısında çalışır ve onunla commit edilir.
+ */
+public class ChunkedOperation {
+
+    /**
+     * Her parçadan sonra çağrılan ilerleme dinleyicisi
+     */
+    public interface ProgressListener {
+        /**
+         * @param affectedRows Şu ana kadar etkilenen satır sayısı
+         * @param chunks Tamamlanan parça sayısı
+         * @param lastKey İşlenen son anahtar değeri
+         * @param maxKey İşlemin kapsadığı en büyük anahtar değeri
+         */
+        void onProgress(long affectedRows, int chunks, long lastKey, long maxKey);
+    }
+
+    static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final DBManager database;
+    private final String tableName;
+    private final String whereClause;
+    private final Object[] whereParams;
+    // Silme işleminde null
+    private final Map<String, Object> setValues;
+    private String keyColumn = "id";
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private long pauseMillis = 0;
+    private ProgressListener progressListener;
+
+    /**
+     * ChunkedOperation constructor
+     * @param database Database nesnesi
+     * @param tableName Tablo adı
+     * @param delete Silme işlemi ise true, güncelleme ise false
+     * @param whereClause Etkilenecek satırların koşulu
+     * @param whereParams Koşul parametreleri
+     */
+    ChunkedOperation(DBManager database, String tableName, boolean delete, String whereClause, Object[] whereParams) {
+        if (whereClause == null || whereClause.isEmpty()) {
+            throw new IllegalArgumentException("Parçalı işlem için WHERE koşulu gereklidir");
+        }
+        this.database = database;
+        this.tableName = tableName;
+        this.whereClause = whereClause;
+        // deleteWhere(t, "...", (Object[]) null) parametresiz koşul gibi davranır
+        this.whereParams = whereParams != null ? whereParams : new Object[0];
+        this.setValues = delete ? null : new LinkedHashMap<>();
+    }
+
+    /**
+     * Güncellenecek sütun değerini ayarlar (sadece updateWhere için)
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return ChunkedOperation nesnesi
+     */
+    public ChunkedOperation set(String columnName, Object value) {
+        if (setValues == null) {
+            throw new IllegalStateException("Silme işleminde sütun ayarlanamaz");
+        }
+        setValues.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Parçaları belirleyen sayısal anahtar sütununu belirler (varsayılan "id")
+     * @param keyColumn Sütun adı
+     * @return ChunkedOperation nesnesi
+     */
+    public ChunkedOperation key(String keyColumn) {
+        this.keyColumn = keyColumn;
+        return this;
+    }
+
+    /**
+     * Bir parçada etkilenecek en fazla satır sayısını belirler (varsayılan 1000)
+     * @param chunkSize Parça boyutu
+     * @return ChunkedOperation nesnesi
+     */
+    public ChunkedOperation chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Parça boyutu en az 1 olmalıdır");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Parçalar arasında beklenecek süreyi belirler (varsayılan 0)
+     * @param pauseMillis Bekleme süresi (ms)
+     * @return ChunkedOperation nesnesi
+     */
+    public ChunkedOperation pauseMillis(long pauseMillis) {
+        this.pauseMillis = Math.max(0, pauseMillis);
+        return this;
+    }
+
+    /**
+     * Her parçadan sonra çağrılacak ilerleme dinleyicisini belirler
+     * @param listener Dinleyici
+     * @return ChunkedOperation nesnesi
+     */
+    public ChunkedOperation onProgress(ProgressListener listener) {
+        this.progressListener = listener;
+        return this;
+    }
+
+    /**
+     * İşlemi çalıştırır. Hata durumunda o ana kadar commit edilen parçalar geri alınmaz.
+     * @return Etkilenen toplam satır sayısı, hata durumunda -1
+     */
+    public long execute() {
+        try {
+            return executeChecked();
+        } catch (SQLException e) {
+            System.err.println("Parçalı işlem hatası: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * İşlemi asenkron olarak çalıştırır
+     * @return Etkilenen toplam satır sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Long> executeAsync() {
+        return database.supplyAsync(this::executeChecked);
+    }
+
+    /**
+     * İşlemi çalıştırır, hata durumunda istisna fırlatır
+     * @return Etkilenen toplam satır sayısı
+     * @throws SQLException Veritabanı hatasında veya bekleme sırasında kesilirse
+     */
+    long executeChecked() throws SQLException {
+        if (setValues != null && setValues.isEmpty()) {
+            throw new IllegalArgumentException("Güncellenecek sütun bulunamadı");
+        }
+
+        // Anahtar aralığı baştan sabitlenir; birincil anahtar üzerindeki MIN/MAX indeksten okunur
+        List<Map<String, Object>> bounds = database.executeQueryChecked(
+                "SELECT MIN(" + keyColumn + ") AS min_key, MAX(" + keyColumn + ") AS max_key FROM " + tableName);
+        Object minValue = bounds.isEmpty() ? null : bounds.get(0).get("min_key");
+        Object maxValue = bounds.isEmpty() ? null : bounds.get(0).get("max_key");
+        if (minValue == null || maxValue == null) {
+            return 0;
+        }
+        long lastKey = ((Number) minValue).longValue() - 1;
+        long maxKey = ((Number) maxValue).longValue();
+
+        String condition = keyColumn + " > ? AND " + keyColumn + " <= ? AND (" + whereClause + ")";
+        // Parçanın üst sınırı: koşula uyan sonraki chunkSize satırın sonuncusu
+        String boundSql = "SELECT " + keyColumn + " FROM " + tableName + " WHERE " + condition +
+                " ORDER BY " + keyColumn + " LIMIT 1 OFFSET " + (chunkSize - 1);
+        String chunkSql = buildChunkSql(condition);
+
+        long affectedRows = 0;
+        int chunks = 0;
+        while (lastKey < maxKey) {
+            List<Map<String, Object>> next = database.executeQueryChecked(boundSql, params(lastKey, maxKey, false));
+            long upperKey = next.isEmpty() ? maxKey : ((Number) next.get(0).get(keyColumn)).longValue();
+
+            // Otomatik commit modunda her parça kendi transaction'ında çalışır
+            affectedRows += database.executeUpdateChecked(chunkSql, params(lastKey, upperKey, true));
+            chunks++;
+            lastKey = upperKey;
+
+            if (progressListener != null) {
+                progressListener.onProgress(affectedRows, chunks, lastKey, maxKey);
+            }
+            if (pauseMillis > 0 && lastKey < maxKey) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Chunked operation interrupted after " + affectedRows + " rows");
+                }
+            }
+        }
+
+        System.out.println("Chunked " + (setValues == null ? "delete" : "update") + " on table: " + tableName +
+                ", rows: " + affectedRows + ", chunks: " + chunks);
+        return affectedRows;
+    }
+
+    private String buildChunkSql(String condition) {
+        if (setValues == null) {
+            return "DELETE FROM " + tableName + " WHERE " + condition;
+        }
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+        boolean firstColumn = true;
+        for (String column : setValues.keySet()) {
+            if (!firstColumn) {
+                sql.append(", ");
+            }
+            sql.append(column).append(" = ?");
+            firstColumn = false;
+        }
+        return sql.append(" WHERE ").append(condition).toString();
+    }
+
+    /**
+     * Parça sorgusunun parametreleri: SET değerleri (güncellemede), anahtar aralığı, WHERE parametreleri
+     */
+    private Object[] params(long lowerKey, long upperKey, boolean withSetValues) {
+        List<Object> params = new ArrayList<>();
+        if (withSetValues && setValues != null) {
+            params.addAll(setValues.values());
+        }
+        params.add(lowerKey);
+        params.add(upperKey);
+        Collections.addAll(params, whereParams);
+        return params.toArray();
+    }
+}
@@ -0,0 +1,359 @@
+package org.exclover;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sütun bazlı sorgu sonucu. Sayısal sütunlar ResultSet.getLong/getDouble ile doğrudan long[] / double[]
+ * dizilerine okunur, NULL değerler ayrı bir bit haritasında işaretlenir; değerler kutulanmaz ve satır
+ * başına nesne oluşturulmaz. Diğer sütunlar Object[] olarak tutulur.
+ */
+public class ColumnarResult {
+
+    /**
+     * Sütunun değer tipi
+     */
+    public enum Kind {
+        /** Tam sayı ve boolean sütunlar, long[] */
+        LONG,
+        /** Ondalıklı sütunlar (DECIMAL/NUMERIC dahil), double[] */
+        DOUBLE,
+        /** Diğer tüm sütunlar, Object[] */
+        OBJECT
+    }
+
+    /**
+     * Tek bir sütunun değerleri
+     */
+    public static class Column {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final String name;
+        private final Kind kind;
+        private long[] longs;
+        private double[] doubles;
+        private Object[] objects;
+        private final BitSet nulls = new BitSet();
+        private int size;
+
+        Column(String name, Kind kind) {
+            this.name = name;
+            this.kind = kind;
+            if (kind == Kind.LONG) {
+                longs = new long[INITIAL_CAPACITY];
+            } else if (kind == Kind.DOUBLE) {
+                doubles = new double[INITIAL_CAPACITY];
+            } else {
+                objects = new Object[INITIAL_CAPACITY];
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Değer sayısı
+         * @return Satır sayısı
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Değerin NULL olup olmadığını döndürür
+         * @param row Satır sırası
+         * @return NULL ise true
+         */
+        public boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        /**
+         * NULL satırları işaretleyen bit haritası; değiştirilmemelidir
+         * @return Bit haritası
+         */
+        public BitSet getNulls() {
+            return nulls;
+        }
+
+        /**
+         * Tam sayı değerini döndürür (NULL için 0). DOUBLE sütunlarda değer kesilir.
+         * @param row Satır sırası
+         * @return Değer
+         */
+        public long getLong(int row) {
+            checkRow(row);
+            if (kind == Kind.LONG) {
+                return longs[row];
+            }
+            if (kind == Kind.DOUBLE) {
+                return (long) doubles[row];
+            }
+            Object value = objects[row];
+            return value instanceof Number ? ((Number) value).longValue() : 0L;
+        }
+
+        /**
+         * Tam sayı değerini int olarak döndürür (NULL için 0)
+         * @param row Satır sırası
+         * @return Değer
+         */
+        public int getInt(int row) {
+            return (int) getLong(row);
+        }
+
+        /**
+         * Ondalıklı değeri döndürür (NULL için 0.0)
+         * @param row Satır sırası
+         * @return Değer
+         */
+        public double getDouble(int row) {
+            checkRow(row);
+            if (kind == Kind.DOUBLE) {
+                return doubles[row];
+            }
+            if (kind == Kind.LONG) {
+                return longs[row];
+            }
+            Object value = objects[row];
+            return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+        }
+
+        /**
+         * Değeri nesne olarak döndürür; sayısal sütunlarda kutulama yapar
+         * @param row Satır sırası
+         * @return Değer, NULL ise null
+         */
+        public Object getObject(int row) {
+            checkRow(row);
+            if (nulls.get(row)) {
+                return null;
+            }
+            if (kind == Kind.LONG) {
+                return longs[row];
+            }
+            if (kind == Kind.DOUBLE) {
+                return doubles[row];
+            }
+            return objects[row];
+        }
+
+        /**
+         * LONG sütunun değer dizisi (kopyalanmaz, uzunluğu satır sayısına eşittir; NULL satırlar 0)
+         * @return Değer dizisi
+         */
+        public long[] getLongs() {
+            requireKind(Kind.LONG);
+            return longs;
+        }
+
+        /**
+         * DOUBLE sütunun değer dizisi (kopyalanmaz, uzunluğu satır sayısına eşittir; NULL satırlar 0.0)
+         * @return Değer dizisi
+         */
+        public double[] getDoubles() {
+            requireKind(Kind.DOUBLE);
+            return doubles;
+        }
+
+        /**
+         * OBJECT sütunun değer dizisi (kopyalanmaz, uzunluğu satır sayısına eşittir)
+         * @return Değer dizisi
+         */
+        public Object[] getObjects() {
+            requireKind(Kind.OBJECT);
+            return objects;
+        }
+
+        /**
+         * LONG sütunu yeni bir int[] dizisine çevirir
+         * @return Değer dizisi
+         */
+        public int[] toIntArray() {
+            requireKind(Kind.LONG);
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = (int) longs[i];
+            }
+            return values;
+        }
+
+        void read(ResultSet rs, int columnIndex) throws SQLException {
+            if (size == capacity()) {
+                grow();
+            }
+            if (kind == Kind.LONG) {
+                longs[size] = rs.getLong(columnIndex);
+            } else if (kind == Kind.DOUBLE) {
+                doubles[size] = rs.getDouble(columnIndex);
+            } else {
+                objects[size] = rs.getObject(columnIndex);
+            }
+            if (rs.wasNull()) {
+                nulls.set(size);
+            }
+            size++;
+        }
+
+        /**
+         * Dizileri satır sayısına kırpar
+         */
+        void trim() {
+            if (size == capacity()) {
+                return;
+            }
+            if (kind == Kind.LONG) {
+                longs = Arrays.copyOf(longs, size);
+            } else if (kind == Kind.DOUBLE) {
+                doubles = Arrays.copyOf(doubles, size);
+            } else {
+                objects = Arrays.copyOf(objects, size);
+            }
+        }
+
+        private int capacity() {
+            return kind == Kind.LONG ? longs.length : kind == Kind.DOUBLE ? doubles.length : objects.length;
+        }
+
+        private void grow() {
+            int capacity = Math.max(INITIAL_CAPACITY, capacity() + (capacity() >> 1));
+            if (kind == Kind.LONG) {
+                longs = Arrays.copyOf(longs, capacity);
+            } else if (kind == Kind.DOUBLE) {
+                doubles = Arrays.copyOf(doubles, capacity);
+            } else {
+                objects = Arrays.copyOf(objects, capacity);
+            }
+        }
+
+        private void checkRow(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("Row: " + row + ", size: " + size);
+            }
+        }
+
+        private void requireKind(Kind expected) {
+            if (kind != expected) {
+                throw new IllegalStateException("Column " + name + " is " + kind + ", not " + expected);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Column [name=" + name + ", kind=" + kind + ", size=" + size + ", nulls=" + nulls.cardinality() + "]";
+        }
+    }
+
+    private final List<Column> columns;
+    private final int rowCount;
+
+    private ColumnarResult(List<Column> columns, int rowCount) {
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * ResultSet'in tüm satırlarını sütunlara okur
+     * @param rs Açık ResultSet
+     * @return Sütun bazlı sonuç
+     * @throws SQLException Okuma hatasında
+     */
+    static ColumnarResult read(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        Column[] columns = new Column[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column(metaData.getColumnLabel(i + 1), kindOf(metaData.getColumnType(i + 1)));
+        }
+
+        int rowCount = 0;
+        while (rs.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].read(rs, i + 1);
+            }
+            rowCount++;
+        }
+        for (Column column : columns) {
+            column.trim();
+        }
+        return new ColumnarResult(Collections.unmodifiableList(new ArrayList<>(Arrays.asList(columns))), rowCount);
+    }
+
+    /**
+     * JDBC tipinin okunacağı diziyi belirler
+     */
+    private static Kind kindOf(int sqlType) {
+        switch (sqlType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return Kind.LONG;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return Kind.DOUBLE;
+            default:
+                return Kind.OBJECT;
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    /**
+     * Sütunları sorgudaki sırayla döndürür
+     * @return Sütun listesi
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Sütunu sırasıyla döndürür
+     * @param index 0 tabanlı sütun sırası
+     * @return Sütun
+     */
+    public Column getColumn(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * Sütunu adıyla döndürür (aynı adlı sütunlarda sonuncusu)
+     * @param name Sütun adı
+     * @return Sütun, yoksa null
+     */
+    public Column getColumn(String name) {
+        for (int i = columns.size() - 1; i >= 0; i--) {
+            if (columns.get(i).getName().equals(name)) {
+                return columns.get(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarResult [rows=" + rowCount + ", columns=" + columns + "]";
+    }
+}
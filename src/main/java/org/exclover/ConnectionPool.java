@@ -0,0 +1,586 @@
+package org.exclover;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sınırlı boyutlu JDBC bağlantı havuzu.
+ * Bağlantılar ödünç alınır ({@link #borrow()}) ve iş bitince geri verilir ({@link #release(PooledConnection)}).
+ */
+public class ConnectionPool {
+
+    /**
+     * Yeni fiziksel bağlantı üreten fabrika
+     */
+    interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    private final String name;
+    private final ConnectionFactory factory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+
+    private int maxSize;
+    private int minIdle = 1;
+    private long borrowTimeoutMillis = 30_000;
+    private long idleTimeoutMillis = 600_000;
+    private long maxLifetimeMillis = 1_800_000;
+    private long validationIntervalMillis = 5_000;
+    private int validationTimeoutSeconds = 2;
+    private volatile int statementCacheSize = 64;
+
+    private boolean open = false;
+    private int generation = 0;
+    private int total = 0;
+    private int active = 0;
+    private int waiting = 0;
+    private ScheduledExecutorService housekeeper;
+
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    /**
+     * ConnectionPool constructor
+     * @param name Havuz adı (log ve thread adları için)
+     * @param factory Bağlantı fabrikası
+     * @param maxSize Maksimum bağlantı sayısı
+     */
+    ConnectionPool(String name, ConnectionFactory factory, int maxSize) {
+        this.name = name;
+        this.factory = factory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Maksimum bağlantı sayısını ayarlar
+     * @param maxSize Maksimum bağlantı sayısı
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Havuz boyutu en az 1 olmalıdır");
+        }
+        lock.lock();
+        try {
+            this.maxSize = maxSize;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Boşta tutulacak minimum bağlantı sayısını ayarlar
+     * @param minIdle Minimum boşta bağlantı sayısı
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool setMinIdle(int minIdle) {
+        this.minIdle = Math.max(0, minIdle);
+        return this;
+    }
+
+    /**
+     * Boşta bağlantı beklemek için maksimum süreyi ayarlar
+     * @param borrowTimeoutMillis Milisaniye cinsinden süre
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool setBorrowTimeout(long borrowTimeoutMillis) {
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Boşta kalan bağlantıların kapatılacağı süreyi ayarlar
+     * @param idleTimeoutMillis Milisaniye cinsinden süre
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool setIdleTimeout(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Bir bağlantının toplam ömrünü ayarlar
+     * @param maxLifetimeMillis Milisaniye cinsinden süre
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool setMaxLifetime(long maxLifetimeMillis) {
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        return this;
+    }
+
+    /**
+     * Bu süreden uzun boşta kalan bağlantılar ödünç verilmeden önce doğrulanır
+     * @param validationIntervalMillis Milisaniye cinsinden süre
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool setValidationInterval(long validationIntervalMillis) {
+        this.validationIntervalMillis = validationIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Bağlantı doğrulaması için zaman aşımını ayarlar
+     * @param validationTimeoutSeconds Saniye cinsinden süre
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool setValidationTimeout(int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        return this;
+    }
+
+    /**
+     * Bağlantı başına önbelleğe alınacak PreparedStatement sayısını ayarlar (0 önbelleği kapatır)
+     * @param statementCacheSize Bağlantı başına statement sayısı
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        return this;
+    }
+
+    int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    void recordStatementCacheHit() {
+        statementCacheHits.incrementAndGet();
+    }
+
+    void recordStatementCacheMiss() {
+        statementCacheMisses.incrementAndGet();
+    }
+
+    /**
+     * Havuzu açar ve minimum sayıda bağlantıyı hazırlar
+     * @throws SQLException İlk bağlantı kurulamazsa
+     */
+    void start() throws SQLException {
+        lock.lock();
+        try {
+            if (open) return;
+            open = true;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            // İlk bağlantıyı hemen açarak erişilebilirliği doğrula
+            release(borrow());
+            fillMinIdle();
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name + "-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1_000, Math.min(idleTimeoutMillis, maxLifetimeMillis) / 2);
+        housekeeper.scheduleWithFixedDelay(this::evict, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Havuz açık mı
+     * @return Açık ise true
+     */
+    public boolean isOpen() {
+        lock.lock();
+        try {
+            return open;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Havuzdan bir bağlantı ödünç alır, gerekirse yeni bağlantı açar veya boşalmasını bekler
+     * @return Ödünç alınan bağlantı
+     * @throws SQLException Havuz kapalıysa, zaman aşımında veya bağlantı açılamazsa
+     */
+    PooledConnection borrow() throws SQLException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        long waitStart = System.nanoTime();
+
+        while (true) {
+            PooledConnection candidate = null;
+            boolean create = false;
+            int currentGeneration;
+
+            lock.lock();
+            try {
+                while (candidate == null && !create) {
+                    if (!open) {
+                        throw new SQLException("Connection pool is closed: " + name);
+                    }
+                    candidate = idle.pollLast();
+                    if (candidate == null) {
+                        if (total < maxSize) {
+                            total++;
+                            create = true;
+                        } else {
+                            if (remaining <= 0) {
+                                timeoutCount.incrementAndGet();
+                                throw new SQLException("Timed out waiting for a pooled connection: " + name);
+                            }
+                            waiting++;
+                            try {
+                                remaining = available.awaitNanos(remaining);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new SQLException("Interrupted while waiting for a pooled connection", e);
+                            } finally {
+                                waiting--;
+                            }
+                        }
+                    }
+                }
+                currentGeneration = generation;
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                PooledConnection created;
+                try {
+                    created = new PooledConnection(factory.create(), this, currentGeneration);
+                } catch (SQLException | RuntimeException e) {
+                    lock.lock();
+                    try {
+                        total--;
+                        available.signal();
+                    } finally {
+                        lock.unlock();
+                    }
+                    throw e;
+                }
+                createdCount.incrementAndGet();
+                return checkedOut(created, waitStart);
+            }
+
+            if (isUsable(candidate)) {
+                return checkedOut(candidate, waitStart);
+            }
+            discard(candidate);
+        }
+    }
+
+    /**
+     * Ödünç alınan bağlantıyı havuza geri verir
+     * @param pooled Bağlantı (null ise yok sayılır)
+     */
+    void release(PooledConnection pooled) {
+        if (pooled == null) return;
+
+        pooled.closeUncachedStatements();
+        boolean healthy = resetState(pooled) && !isExpired(pooled, System.currentTimeMillis());
+
+        lock.lock();
+        try {
+            active--;
+            if (healthy && open && pooled.getGeneration() == generation && total <= maxSize) {
+                pooled.touch();
+                idle.addLast(pooled);
+                available.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        discard(pooled);
+    }
+
+    /**
+     * Havuzu kapatır. Boştaki bağlantılar hemen, kullanımdakiler geri verildiğinde kapanır.
+     */
+    void close() {
+        List<PooledConnection> toClose;
+        lock.lock();
+        try {
+            open = false;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (housekeeper != null) {
+            housekeeper.shutdownNow();
+            housekeeper = null;
+        }
+        for (PooledConnection pooled : toClose) {
+            discard(pooled);
+        }
+    }
+
+    /**
+     * Süresi dolan boştaki bağlantıları kapatır ve minimum boşta sayısını korur
+     */
+    void evict() {
+        long now = System.currentTimeMillis();
+        List<PooledConnection> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            Iterator<PooledConnection> it = idle.iterator();
+            while (it.hasNext()) {
+                PooledConnection pooled = it.next();
+                boolean idleTooLong = now - pooled.getLastUsedAt() > idleTimeoutMillis && total - expired.size() > minIdle;
+                if (idleTooLong || isExpired(pooled, now)) {
+                    it.remove();
+                    expired.add(pooled);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (PooledConnection pooled : expired) {
+            discard(pooled);
+        }
+        try {
+            fillMinIdle();
+        } catch (SQLException e) {
+            System.err.println("Connection pool refill error: " + e.getMessage());
+        }
+    }
+
+    private void fillMinIdle() throws SQLException {
+        while (true) {
+            int currentGeneration;
+            lock.lock();
+            try {
+                if (!open || idle.size() >= minIdle || total >= maxSize) return;
+                total++;
+                currentGeneration = generation;
+            } finally {
+                lock.unlock();
+            }
+
+            PooledConnection created;
+            try {
+                created = new PooledConnection(factory.create(), this, currentGeneration);
+            } catch (SQLException e) {
+                lock.lock();
+                try {
+                    total--;
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+            createdCount.incrementAndGet();
+
+            boolean added;
+            lock.lock();
+            try {
+                added = open && currentGeneration == generation;
+                if (added) {
+                    idle.addLast(created);
+                    available.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!added) {
+                discard(created);
+                return;
+            }
+        }
+    }
+
+    private PooledConnection checkedOut(PooledConnection pooled, long waitStart) {
+        lock.lock();
+        try {
+            active++;
+        } finally {
+            lock.unlock();
+        }
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(System.nanoTime() - waitStart);
+        pooled.touch();
+        return pooled;
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        long now = System.currentTimeMillis();
+        if (isExpired(pooled, now) || now - pooled.getLastUsedAt() > idleTimeoutMillis) {
+            return false;
+        }
+        if (now - pooled.getLastUsedAt() < validationIntervalMillis) {
+            return true;
+        }
+        try {
+            return pooled.getConnection().isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledConnection pooled, long now) {
+        return maxLifetimeMillis > 0 && now - pooled.getCreatedAt() > maxLifetimeMillis;
+    }
+
+    /**
+     * Geri verilen bağlantıda yarım kalmış transaction varsa geri alır
+     * @return Bağlantı yeniden kullanılabilir ise true
+     */
+    private boolean resetState(PooledConnection pooled) {
+        try {
+            Connection connection = pooled.getConnection();
+            if (connection.isClosed()) return false;
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        pooled.closeQuietly();
+        destroyedCount.incrementAndGet();
+        lock.lock();
+        try {
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Açık fiziksel bağlantı sayısı
+     */
+    public int getTotalConnections() {
+        lock.lock();
+        try {
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Şu anda ödünç verilmiş bağlantı sayısı
+     */
+    public int getActiveConnections() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Boşta bekleyen bağlantı sayısı
+     */
+    public int getIdleConnections() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Bağlantı bekleyen thread sayısı
+     */
+    public int getWaitingThreads() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Maksimum bağlantı sayısı
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return Toplam ödünç alma sayısı
+     */
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+
+    /**
+     * @return Açılan toplam fiziksel bağlantı sayısı
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * @return Kapatılan toplam fiziksel bağlantı sayısı
+     */
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    /**
+     * @return Zaman aşımına uğrayan ödünç alma isteği sayısı
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * @return Ödünç alma başına ortalama bekleme süresi (milisaniye)
+     */
+    public double getAverageWaitMillis() {
+        long borrows = borrowCount.get();
+        return borrows == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / borrows;
+    }
+
+    /**
+     * @return Önbellekten karşılanan statement sayısı
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    /**
+     * @return Yeniden hazırlanması gereken statement sayısı
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+
+    @Override
+    public String toString() {
+        return name + " [total=" + getTotalConnections() + ", active=" + getActiveConnections() +
+                ", idle=" + getIdleConnections() + ", waiting=" + getWaitingThreads() + "]";
+    }
+}
@@ -0,0 +1,269 @@
+package org.exclover;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Bellek eşlemeli (memory-mapped) dosya üzerinden çalışan CSV/TSV okuyucu.
+ * Dosya sabit boyutlu pencereler halinde eşlenir; alanlar satır başına String oluşturmadan,
+ * tekrar kullanılan tek bir bayt tamponuna kopyalanır. Bellek kullanımı dosya boyutundan bağımsızdır.
+ * Tırnaklı alanlar, "" kaçışları, alan içindeki satır sonları ve CRLF desteklenir.
+ */
+class CsvReader implements Closeable {
+    private static final long WINDOW_BYTES = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final int delimiter;
+    private final long endPosition;
+    private final long rangeEnd;
+    private long windowEnd;
+    private MappedByteBuffer window;
+    private int pushback = -1;
+
+    // Geçerli kaydın alanları: data[starts[i] .. ends[i])
+    private byte[] data = new byte[4096];
+    private int length;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] quoted = new boolean[16];
+    private int fieldCount;
+
+    /**
+     * Dosyanın tamamını okur
+     * @param path Dosya yolu
+     * @param delimiter Alan ayracı (',' veya '\t')
+     * @throws IOException Dosya açılamazsa
+     */
+    CsvReader(Path path, char delimiter) throws IOException {
+        this(path, delimiter, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Sadece [start, end) aralığında başlayan kayıtları okur (paralel yükleme bölümleri için).
+     * start bir satırın ortasına denk gelirse o satır bir önceki bölüme aittir ve atlanır.
+     * Alan içinde satır sonu bulunan dosyalarda bölüm sınırları yanlış hizalanabilir.
+     * @param path Dosya yolu
+     * @param delimiter Alan ayracı
+     * @param start Bölüm başlangıcı (bayt)
+     * @param end Bölüm sonu (bayt)
+     * @throws IOException Dosya açılamazsa
+     */
+    CsvReader(Path path, char delimiter, long start, long end) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.delimiter = delimiter;
+        this.endPosition = channel.size();
+        this.rangeEnd = end;
+        if (start == 0) {
+            skipByteOrderMark();
+        } else {
+            // Bir önceki baytta satır sonu yoksa yarım satır önceki bölüme aittir
+            windowEnd = start - 1;
+            int b;
+            do {
+                b = read();
+            } while (b >= 0 && b != '\n');
+        }
+    }
+
+    /**
+     * Sonraki kayda geçer, boş satırlar atlanır
+     * @return Kayıt okunduysa true, dosya sonunda false
+     * @throws IOException Okuma hatasında
+     */
+    boolean next() throws IOException {
+        int b;
+        do {
+            b = read();
+            if (b < 0) {
+                return false;
+            }
+        } while (b == '\n' || b == '\r');
+        if (position() - 1 >= rangeEnd) {
+            return false;
+        }
+
+        fieldCount = 0;
+        length = 0;
+        while (true) {
+            int start = length;
+            boolean isQuoted = false;
+            if (b == '"') {
+                isQuoted = true;
+                while (true) {
+                    b = read();
+                    if (b < 0) {
+                        break;
+                    }
+                    if (b == '"') {
+                        b = read();
+                        if (b != '"') {
+                            break;
+                        }
+                    }
+                    append(b);
+                }
+                // Kapanış tırnağından sonra ayraca kadar olan karakterler yok sayılır
+                while (b >= 0 && b != delimiter && b != '\n' && b != '\r') {
+                    b = read();
+                }
+            } else {
+                while (b >= 0 && b != delimiter && b != '\n' && b != '\r') {
+                    append(b);
+                    b = read();
+                }
+            }
+            addField(start, isQuoted);
+
+            if (b == delimiter) {
+                b = read();
+                continue;
+            }
+            if (b == '\r') {
+                int following = read();
+                if (following >= 0 && following != '\n') {
+                    pushback = following;
+                }
+            }
+            return true;
+        }
+    }
+
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Tırnaksız boş alanlar NULL kabul edilir ("" boş metindir)
+     */
+    boolean isNull(int field) {
+        return starts[field] == ends[field] && !quoted[field];
+    }
+
+    String getString(int field) {
+        return new String(data, starts[field], ends[field] - starts[field], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Alan düz bir tam sayı ise (isteğe bağlı işaret ve rakamlar) true döndürür
+     */
+    boolean isLong(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        if (start < end && (data[start] == '-' || data[start] == '+')) {
+            start++;
+        }
+        // 18 haneye kadar taşma olmaz
+        if (start == end || end - start > 18) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (data[i] < '0' || data[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Alanı String oluşturmadan tam sayıya çevirir; önce isLong ile kontrol edilmelidir
+     */
+    long getLong(int field) {
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = data[i] == '-';
+        if (negative || data[i] == '+') {
+            i++;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            value = value * 10 + (data[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Alan verilen ASCII metne eşitse (büyük/küçük harf duyarsız) true döndürür
+     */
+    boolean equalsIgnoreCase(int field, String text) {
+        int start = starts[field];
+        if (ends[field] - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.toLowerCase((char) data[start + i]) != Character.toLowerCase(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * Okunan bir sonraki baytın dosyadaki konumu
+     */
+    private long position() {
+        long position = window == null ? windowEnd : windowEnd - window.remaining();
+        return pushback >= 0 ? position - 1 : position;
+    }
+
+    private int read() throws IOException {
+        if (pushback >= 0) {
+            int b = pushback;
+            pushback = -1;
+            return b;
+        }
+        if (window == null || !window.hasRemaining()) {
+            if (windowEnd >= endPosition) {
+                return -1;
+            }
+            long size = Math.min(WINDOW_BYTES, endPosition - windowEnd);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowEnd, size);
+            windowEnd += size;
+        }
+        return window.get() & 0xFF;
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (endPosition >= 3) {
+            int b1 = read();
+            int b2 = read();
+            int b3 = read();
+            if (b1 == 0xEF && b2 == 0xBB && b3 == 0xBF) {
+                return;
+            }
+            // BOM yoksa pencereyi baştan eşle
+            window = null;
+            windowEnd = 0;
+        }
+    }
+
+    private void append(int b) {
+        if (length == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[length++] = (byte) b;
+    }
+
+    private void addField(int start, boolean isQuoted) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            ends = Arrays.copyOf(ends, fieldCount * 2);
+            quoted = Arrays.copyOf(quoted, fieldCount * 2);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = length;
+        quoted[fieldCount] = isQuoted;
+        fieldCount++;
+    }
+}
@@ -3,18 +3,55 @@ package org.exclover;
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Geliştirilmiş Database sınıfı
  */
 public class DBManager {
     private final String databaseName;
-    private Connection connection;
-    private final Map<String, ColumnDefinition> columns;
-    private final Map<String, Object> values;
-    private final ExecutorService executorService;
-    private boolean isConnected = false;
+    private final ConnectionPool pool;
+    private volatile ConnectionPool readPool;
+    // select() ve first() ile okunan son satır, her thread için ayrı tutulur
+    private final ThreadLocal<Map<String, Object>> currentRow = ThreadLocal.withInitial(HashMap::new);
+    // transaction() içindeki thread'in sabitlenmiş bağlantısı
+    private final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
+    private volatile ExecutorService executorService;
+    // Executor dışarıdan verildiyse close() onu kapatmaz
+    private volatile boolean ownsExecutor;
+    private volatile boolean virtualThreads = false;
+    // Sanal thread modunda aynı anda veritabanına giden işlem sayısını havuz boyutuyla sınırlar
+    private volatile Semaphore concurrencyLimit;
+
+    // Kabul kontrolü: kuyrukta bekleyen ve çalışan asenkron işlerin toplamı sınırlanır
+    private volatile int maxPendingTasks = DEFAULT_MAX_PENDING_TASKS;
+    private volatile Semaphore admission = new Semaphore(DEFAULT_MAX_PENDING_TASKS);
+    private volatile RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final AtomicInteger runningTasks = new AtomicInteger();
+    private final AtomicLong saturationCount = new AtomicLong();
+    // Worker thread'i içinden yapılan asenkron çağrıların BLOCK modunda kilitlenmemesi için
+    private final ThreadLocal<Boolean> asyncWorker = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private static final int DEFAULT_MAX_PENDING_TASKS = 10_000;
+
+    // SQLite akış sorgularında sürücüden tek seferde çekilen satır sayısı
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    // SQLite grup commit ayarları; pencere negatifse kapalıdır
+    private volatile long groupCommitWindowMillis = -1;
+    private volatile int groupCommitMaxRows = 0;
+    private GroupCommitWriter groupCommitWriter;
+
+    // Çok satırlı insert sınırları, ilk kullanımda okunur
+    private volatile int maxBindParameters = -1;
+    private volatile long maxAllowedPacket = -1;
+    private volatile Executor callbackExecutor;
+    private volatile boolean isConnected = false;
     private final DatabaseType databaseType; // Veritabanı tipi için yeni değişken
 
     /**
@@ -25,12 +62,33 @@ public class DBManager {
         MYSQL
     }
 
+    /**
+     * Asenkron iş kuyruğu dolduğunda uygulanacak politika
+     */
+    public enum RejectionPolicy {
+        /** Kuyrukta yer açılana kadar çağıran thread bekler */
+        BLOCK,
+        /** İş reddedilir (future RejectedExecutionException ile tamamlanır) */
+        FAIL_FAST,
+        /** İş çağıran thread'de çalıştırılır */
+        CALLER_RUNS
+    }
+
     /**
      * Database constructor (SQLite için)
      * @param databaseName Veritabanı dosya adı
      */
     public DBManager(String databaseName) {
-        this(databaseName, DatabaseType.SQLITE, null, null, null);
+        this(databaseName, DatabaseType.SQLITE, null, null, null, null);
+    }
+
+    /**
+     * Database constructor (SQLite için, asenkron işlemler verilen executor'da çalışır)
+     * @param databaseName Veritabanı dosya adı
+     * @param executorService Asenkron işlemler için executor (close() ile kapatılmaz)
+     */
+    public DBManager(String databaseName, ExecutorService executorService) {
+        this(databaseName, DatabaseType.SQLITE, null, null, null, executorService);
     }
 
     /**
@@ -41,18 +99,33 @@ public class DBManager {
      * @param password Şifre
      */
     public DBManager(String databaseName, String host, String user, String password) {
-        this(databaseName, DatabaseType.MYSQL, host, user, password);
+        this(databaseName, DatabaseType.MYSQL, host, user, password, null);
+    }
+
+    /**
+     * Database constructor (MySQL için, asenkron işlemler verilen executor'da çalışır)
+     * @param databaseName Veritabanı adı
+     * @param host MySQL sunucu adresi
+     * @param user Kullanıcı adı
+     * @param password Şifre
+     * @param executorService Asenkron işlemler için executor (close() ile kapatılmaz)
+     */
+    public DBManager(String databaseName, String host, String user, String password, ExecutorService executorService) {
+        this(databaseName, DatabaseType.MYSQL, host, user, password, executorService);
     }
 
     /**
      * Tam constructor
      */
-    private DBManager(String databaseName, DatabaseType type, String host, String user, String password) {
+    private DBManager(String databaseName, DatabaseType type, String host, String user, String password,
+                      ExecutorService executorService) {
         this.databaseName = databaseName;
         this.databaseType = type;
-        this.columns = new LinkedHashMap<>();
-        this.values = new HashMap<>();
-        this.executorService = Executors.newCachedThreadPool();
+        this.ownsExecutor = executorService == null;
+        this.executorService = executorService != null ? executorService : newDefaultExecutor();
+        // SQLite tek dosyaya yazdığı için varsayılan olarak tek bağlantı kullanılır
+        this.pool = new ConnectionPool("DBManager-" + databaseName, this::openConnection,
+                type == DatabaseType.SQLITE ? 1 : 10);
 
         // Veritabanı bağlantısı parametrelerini sakla
         this.host = host;
@@ -73,7 +146,6 @@ public class DBManager {
             if (databaseType == DatabaseType.SQLITE) {
                 // SQLite JDBC bağlantısı
                 Class.forName("org.sqlite.JDBC");
-                this.connection = DriverManager.getConnection("jdbc:sqlite:" + databaseName);
             } else {
                 // MySQL JDBC bağlantısı
                 Class.forName("com.mysql.cj.jdbc.Driver");
@@ -90,13 +162,18 @@ public class DBManager {
                     System.err.println("Database creation error: " + e.getMessage());
                 }
 
-                // Asıl veritabanına bağlan
-                this.connection = DriverManager.getConnection(
-                        "jdbc:mysql://" + host + "/" + databaseName +
-                                "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&useUnicode=true&characterEncoding=UTF-8",
-                        user, password);
             }
 
+            // Havuzu aç, ilk bağlantı burada kurulur
+            pool.start();
+            if (readPool != null) {
+                readPool.start();
+            }
+            if (virtualThreads) {
+                concurrencyLimit = new Semaphore(getMaxConcurrency(), true);
+            }
+            resizeDefaultExecutor();
+
             isConnected = true;
             System.out.println("Database connection successful: " + databaseName);
             return true;
@@ -107,25 +184,622 @@ public class DBManager {
         }
     }
 
-    public void connectAsync(Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = connect();
-            if (callback != null) {
+    /**
+     * Havuz için yeni bir fiziksel bağlantı açar
+     * @return JDBC bağlantısı
+     * @throws SQLException Bağlantı kurulamazsa
+     */
+    private Connection openConnection() throws SQLException {
+        if (databaseType == DatabaseType.SQLITE) {
+            Connection connection = DriverManager.getConnection("jdbc:sqlite:" + databaseName);
+            if (readPool != null) {
+                // WAL modu dosyada kalıcıdır, okuyucular açılmadan önce yazıcı tarafından etkinleştirilir
+                Statement stmt = connection.createStatement();
+                stmt.execute("PRAGMA journal_mode = WAL");
+                stmt.close();
+            }
+            return connection;
+        }
+        return DriverManager.getConnection(
+                "jdbc:mysql://" + host + "/" + databaseName +
+                        "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&useUnicode=true&characterEncoding=UTF-8" +
+                        "&rewriteBatchedStatements=true",
+                user, password);
+    }
+
+    /**
+     * WAL modunda okuma havuzu için salt okunur bağlantı açar
+     * @return JDBC bağlantısı
+     * @throws SQLException Bağlantı kurulamazsa
+     */
+    private Connection openReadConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:sqlite:" + databaseName);
+        Statement stmt = connection.createStatement();
+        stmt.execute("PRAGMA query_only = 1");
+        stmt.close();
+        return connection;
+    }
+
+    /**
+     * SQLite için WAL modunu etkinleştirir: tek bir yazıcı bağlantı ve
+     * okuma sorgularını paralel çalıştıran salt okunur bağlantılar kullanılır.
+     * Bağlantı açıksa yeniden bağlanılır.
+     * @param readerCount Okuyucu bağlantı sayısı
+     * @return Database nesnesi
+     */
+    public DBManager enableWal(int readerCount) {
+        if (databaseType != DatabaseType.SQLITE) {
+            System.err.println("WAL modu sadece SQLite için desteklenir.");
+            return this;
+        }
+        if (readerCount < 1) {
+            throw new IllegalArgumentException("Okuyucu bağlantı sayısı en az 1 olmalıdır");
+        }
+
+        boolean wasConnected = isConnected();
+        if (wasConnected) {
+            close(false);
+        }
+
+        pool.setMaxSize(1);
+        if (readPool == null) {
+            readPool = new ConnectionPool("DBManager-" + databaseName + "-read", this::openReadConnection, readerCount);
+        } else {
+            readPool.setMaxSize(readerCount);
+        }
+
+        if (wasConnected) {
+            connect();
+        }
+        return this;
+    }
+
+    /**
+     * SQLite için grup commit'i etkinleştirir: asenkron insert'ler (InsertBuilder.executeAsync)
+     * kısa bir pencere içinde toplanıp tek transaction ile yazılır. Her çağıran kendi ID'sini alır.
+     * @param windowMillis İlk satırdan sonra diğer satırların bekleneceği süre (ms)
+     * @param maxRows Bir transaction'daki maksimum satır sayısı
+     * @return Database nesnesi
+     */
+    public DBManager enableGroupCommit(long windowMillis, int maxRows) {
+        if (databaseType != DatabaseType.SQLITE) {
+            System.err.println("Grup commit sadece SQLite için desteklenir.");
+            return this;
+        }
+        if (windowMillis < 0 || maxRows < 1) {
+            throw new IllegalArgumentException("Pencere negatif olamaz ve satır sayısı en az 1 olmalıdır");
+        }
+        GroupCommitWriter previous;
+        synchronized (this) {
+            previous = groupCommitWriter;
+            groupCommitWriter = null;
+            groupCommitWindowMillis = windowMillis;
+            groupCommitMaxRows = maxRows;
+        }
+        if (previous != null) {
+            previous.close();
+        }
+        return this;
+    }
+
+    /**
+     * Grup commit'i kapatır, kuyruktaki satırlar yazılır
+     * @return Database nesnesi
+     */
+    public DBManager disableGroupCommit() {
+        GroupCommitWriter previous;
+        synchronized (this) {
+            previous = groupCommitWriter;
+            groupCommitWriter = null;
+            groupCommitWindowMillis = -1;
+        }
+        if (previous != null) {
+            previous.close();
+        }
+        return this;
+    }
+
+    /**
+     * Grup commit etkin mi
+     * @return Etkin ise true
+     */
+    public boolean isGroupCommitEnabled() {
+        return groupCommitWindowMillis >= 0;
+    }
+
+    /**
+     * Grup commit kuyruğunda bekleyen insert sayısı
+     * @return Kuyruk derinliği
+     */
+    public synchronized int getGroupCommitQueueDepth() {
+        return groupCommitWriter != null ? groupCommitWriter.getQueueDepth() : 0;
+    }
+
+    /**
+     * Grup commit yazıcısını döndürür, ilk kullanımda başlatır
+     * @return Yazıcı, grup commit kapalıysa null
+     */
+    private synchronized GroupCommitWriter groupCommitWriter() {
+        if (groupCommitWindowMillis < 0) {
+            return null;
+        }
+        if (groupCommitWriter == null || !groupCommitWriter.isOpen()) {
+            groupCommitWriter = new GroupCommitWriter(this, "DBManager-" + databaseName + "-group-commit",
+                    groupCommitWindowMillis, groupCommitMaxRows);
+        }
+        return groupCommitWriter;
+    }
+
+    /**
+     * WAL modu etkin mi
+     * @return Etkin ise true
+     */
+    public boolean isWalEnabled() {
+        return readPool != null;
+    }
+
+    /**
+     * Okuma işlemleri için bağlantı ödünç alır. WAL modunda okuyucu havuzu, diğer durumlarda ana havuz kullanılır.
+     * @param readOnly Sadece okuma yapılacaksa true
+     * @return Ödünç alınan bağlantı
+     * @throws SQLException Bağlantı alınamazsa
+     */
+    private PooledConnection borrow(boolean readOnly) throws SQLException {
+        if (readOnly && readPool != null) {
+            return readPool.borrow();
+        }
+        return pool.borrow();
+    }
+
+    /**
+     * Ödünç alınan bağlantıyı ait olduğu havuza geri verir
+     * @param pooled Bağlantı (null ise yok sayılır)
+     */
+    private void release(PooledConnection pooled) {
+        if (pooled != null) {
+            pooled.getOwner().release(pooled);
+        }
+    }
+
+    /**
+     * Ödünç alınan bağlantı üzerinde çalışan işlem
+     */
+    interface ConnectionTask<T> {
+        T run(PooledConnection pooled) throws SQLException;
+    }
+
+    /**
+     * Hata durumunda SQLException fırlatan işlem (CompletableFuture API'si için)
+     */
+    interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
+    /**
+     * Havuzdan bağlantı ödünç alıp işlemi çalıştırır, bağlantı her durumda geri verilir
+     * @param readOnly Sadece okuma yapılacaksa true
+     * @param task Çalıştırılacak işlem
+     * @return İşlemin sonucu
+     * @throws SQLException Bağlantı yoksa veya işlem başarısız olursa
+     */
+    <T> T withConnection(boolean readOnly, ConnectionTask<T> task) throws SQLException {
+        // Transaction içindeyken tüm işlemler (okumalar dahil) sabitlenmiş bağlantıyı kullanır
+        Transaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            return task.run(transaction.getPooledConnection());
+        }
+        if (!ensureConnection()) {
+            throw new SQLException("Database connection is not available: " + databaseName);
+        }
+
+        PooledConnection pooled = null;
+        try {
+            pooled = borrow(readOnly);
+            return task.run(pooled);
+        } finally {
+            release(pooled);
+        }
+    }
+
+    /**
+     * İşi tek bir transaction içinde çalıştırır ve bir kez commit eder.
+     * İş içinde aynı thread'den yapılan insert, update ve sorgular aynı bağlantıyı kullanır.
+     * Zaten bir transaction içindeyse iş iç içe bir savepoint olarak çalışır.
+     * @param work Çalıştırılacak iş
+     * @return Commit edildiyse true, geri alındıysa false
+     */
+    public boolean transaction(Transaction.Work work) {
+        try {
+            transactionResult(tx -> {
+                work.execute(tx);
+                return null;
+            });
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("Transaction rolled back: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * İşi tek bir transaction içinde çalıştırır ve sonucunu döndürür
+     * @param callback Çalıştırılacak iş
+     * @return İşin sonucu
+     * @throws SQLException İş veya commit başarısız olursa (transaction geri alındıktan sonra)
+     */
+    public <T> T transactionResult(Transaction.Callback<T> callback) throws SQLException {
+        Transaction active = currentTransaction.get();
+        if (active != null) {
+            return active.savepointResult(callback);
+        }
+        if (!ensureConnection()) {
+            throw new SQLException("Database connection is not available: " + databaseName);
+        }
+
+        PooledConnection pooled = borrow(false);
+        Connection connection = pooled.getConnection();
+        currentTransaction.set(new Transaction(this, pooled));
+        try {
+            connection.setAutoCommit(false);
+            T result = callback.execute(currentTransaction.get());
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackError) {
+                e.addSuppressed(rollbackError);
+            }
+            throw e;
+        } finally {
+            currentTransaction.remove();
+            // Havuz geri alırken autocommit'i eski haline getirir
+            release(pooled);
+        }
+    }
+
+    /**
+     * İşi asenkron olarak tek bir transaction içinde çalıştırır
+     * @param work Çalıştırılacak iş
+     * @return Commit edildiğinde tamamlanan future, geri alındıysa hatayla tamamlanır
+     */
+    public CompletableFuture<Void> transactionAsync(Transaction.Work work) {
+        return supplyAsync(() -> transactionResult(tx -> {
+            work.execute(tx);
+            return null;
+        }));
+    }
+
+    /**
+     * İşi asenkron olarak tek bir transaction içinde çalıştırır ve sonucunu döndürür
+     * @param callback Çalıştırılacak iş
+     * @return İşin sonucuyla tamamlanan future, geri alındıysa hatayla tamamlanır
+     */
+    public <T> CompletableFuture<T> transactionResultAsync(Transaction.Callback<T> callback) {
+        return supplyAsync(() -> transactionResult(callback));
+    }
+
+    /**
+     * Bu thread'de açık bir transaction var mı
+     * @return Varsa true
+     */
+    public boolean isInTransaction() {
+        return currentTransaction.get() != null;
+    }
+
+    /**
+     * Callback'lerin ve CompletableFuture devamlarının çalışacağı executor'u belirler.
+     * Belirtilmezse veritabanı thread'inde çalışırlar; uzun süren callback'ler için ayrı bir executor verilmelidir.
+     * selectAsync ve firstAsync callback'leri satırı thread'e bağlı okudukları için her zaman veritabanı thread'inde çalışır.
+     * @param executor Callback executor'u (null ise veritabanı thread'i kullanılır)
+     * @return Database nesnesi
+     */
+    public DBManager setCallbackExecutor(Executor executor) {
+        this.callbackExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Callback executor'unu döndürür
+     * @return Executor, belirtilmemişse null
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * Tüm asenkron işlemleri sanal thread'lerde çalıştırır (Java 21+).
+     * Aynı anda veritabanına giden işlem sayısı bağlantı havuzlarının toplam boyutuyla sınırlanır,
+     * fazlası sanal thread'lerde ucuz şekilde bekler. Java 21 öncesinde mevcut executor korunur.
+     * @return Database nesnesi
+     */
+    public DBManager useVirtualThreads() {
+        ExecutorService virtualExecutor;
+        try {
+            virtualExecutor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            System.err.println("Virtual threads are not supported on this Java version: " + System.getProperty("java.version"));
+            return this;
+        }
+
+        ExecutorService previous = executorService;
+        boolean ownedPrevious = ownsExecutor;
+        executorService = virtualExecutor;
+        ownsExecutor = true;
+        virtualThreads = true;
+        concurrencyLimit = new Semaphore(getMaxConcurrency(), true);
+
+        if (ownedPrevious) {
+            // Kuyruktaki işler eski executor'da tamamlanır
+            previous.shutdown();
+        }
+        return this;
+    }
+
+    /**
+     * Sanal thread modu etkin mi
+     * @return Etkin ise true
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sanal thread modunda aynı anda çalışabilecek veritabanı işlemi sayısı (havuz boyutlarının toplamı)
+     * @return Eşzamanlılık sınırı
+     */
+    public int getMaxConcurrency() {
+        ConnectionPool reader = readPool;
+        return pool.getMaxSize() + (reader != null ? reader.getMaxSize() : 0);
+    }
+
+    /**
+     * Varsayılan executor: sabit sayıda platform thread'i, boşta kalan thread'ler 60 saniye sonra kapanır.
+     * Kuyruk uzunluğu kabul kontrolü ile sınırlandığı için sınırsız kuyruk kullanılabilir.
+     * @return Executor
+     */
+    private static ThreadPoolExecutor newDefaultExecutor() {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Varsayılan executor'un thread sayısını bağlantı havuzlarının boyutuna göre ayarlar.
+     * Bağlantı sayısından fazla thread, havuzda beklemekten başka iş yapmaz.
+     */
+    private void resizeDefaultExecutor() {
+        if (!ownsExecutor || !(executorService instanceof ThreadPoolExecutor)) {
+            return;
+        }
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) executorService;
+        int threads = Math.max(getMaxConcurrency(), Runtime.getRuntime().availableProcessors());
+        if (threads > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(threads);
+            executor.setCorePoolSize(threads);
+        } else {
+            executor.setCorePoolSize(threads);
+            executor.setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * Kuyrukta bekleyen ve çalışan asenkron işlerin toplam sınırını belirler
+     * @param maxPendingTasks Maksimum iş sayısı
+     * @return Database nesnesi
+     */
+    public DBManager setMaxPendingTasks(int maxPendingTasks) {
+        if (maxPendingTasks < 1) {
+            throw new IllegalArgumentException("Maksimum bekleyen iş sayısı en az 1 olmalıdır");
+        }
+        this.maxPendingTasks = maxPendingTasks;
+        // Çalışmakta olan işler izinlerini eski semafora geri verir
+        this.admission = new Semaphore(maxPendingTasks);
+        return this;
+    }
+
+    public int getMaxPendingTasks() {
+        return maxPendingTasks;
+    }
+
+    /**
+     * Kuyruk dolduğunda uygulanacak politikayı belirler (varsayılan CALLER_RUNS)
+     * @param rejectionPolicy Politika
+     * @return Database nesnesi
+     */
+    public DBManager setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = Objects.requireNonNull(rejectionPolicy, "rejectionPolicy");
+        return this;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    /**
+     * Kabul edilmiş ama henüz çalışmaya başlamamış asenkron iş sayısı
+     * @return Kuyruk derinliği
+     */
+    public int getQueueDepth() {
+        return Math.max(0, pendingTasks.get() - runningTasks.get());
+    }
+
+    /**
+     * Şu anda çalışan asenkron iş sayısı
+     * @return İş sayısı
+     */
+    public int getRunningTasks() {
+        return runningTasks.get();
+    }
+
+    /**
+     * Kuyruğun dolu bulunduğu gönderim sayısı (politikadan bağımsız)
+     * @return Doygunluk sayısı
+     */
+    public long getSaturationCount() {
+        return saturationCount.get();
+    }
+
+    /**
+     * İşi executor'a verir. Kuyruk doluysa reddetme politikası uygulanır,
+     * sanal thread modunda eşzamanlılık sınırına uyulur.
+     * @param task Çalıştırılacak iş
+     * @throws RejectedExecutionException FAIL_FAST politikasında kuyruk doluysa veya executor kapatıldıysa
+     */
+    private void execute(Runnable task) {
+        Semaphore gate = admission;
+        if (!gate.tryAcquire()) {
+            saturationCount.incrementAndGet();
+            RejectionPolicy policy = rejectionPolicy;
+            if (policy == RejectionPolicy.FAIL_FAST) {
+                throw new RejectedExecutionException("Async queue is full (" + maxPendingTasks + " pending tasks)");
+            }
+            if (policy == RejectionPolicy.CALLER_RUNS || asyncWorker.get()) {
+                // Worker thread'inin kendi kuyruğunu beklemesi kilitlenmeye yol açar, bu durumda iş burada çalışır
+                runTask(task);
+                return;
+            }
+            gate.acquireUninterruptibly();
+        }
+
+        pendingTasks.incrementAndGet();
+        try {
+            executorService.execute(() -> {
+                try {
+                    runTask(task);
+                } finally {
+                    // Havuzdaki thread sonraki işe önceki select'in satırını taşımasın
+                    currentRow.remove();
+                    pendingTasks.decrementAndGet();
+                    gate.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingTasks.decrementAndGet();
+            gate.release();
+            throw e;
+        }
+    }
+
+    /**
+     * İşi çalıştırır; sanal thread modunda önce eşzamanlılık izni alınır
+     * @param task Çalıştırılacak iş
+     */
+    private void runTask(Runnable task) {
+        boolean nested = asyncWorker.get();
+        // İç içe çalışan iş, dıştaki işin aldığı izni kullanır
+        Semaphore limit = nested ? null : concurrencyLimit;
+        if (limit != null) {
+            limit.acquireUninterruptibly();
+        }
+        asyncWorker.set(Boolean.TRUE);
+        runningTasks.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            runningTasks.decrementAndGet();
+            asyncWorker.set(nested);
+            if (limit != null) {
+                limit.release();
+            }
+        }
+    }
+
+    /**
+     * İşlemi veritabanı thread'inde çalıştırır. Hatalar future'ı istisnayla tamamlar.
+     * @param call Çalıştırılacak işlem
+     * @return Sonuç future'ı
+     */
+    <T> CompletableFuture<T> supplyAsync(SqlCall<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            execute(() -> {
+                try {
+                    future.complete(call.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return onCallbackExecutor(future, null);
+    }
+
+    /**
+     * Future'ın bağımlı aşamalarını callback executor'a taşır
+     * @param future Kaynak future
+     * @param fallback Callback executor belirtilmemişse kullanılacak executor (null ise taşınmaz)
+     * @return Bağımlı aşamaları doğru executor'da çalışacak future
+     */
+    private <T> CompletableFuture<T> onCallbackExecutor(CompletableFuture<T> future, Executor fallback) {
+        Executor executor = callbackExecutor != null ? callbackExecutor : fallback;
+        if (executor == null) {
+            return future;
+        }
+        // Bağımlı aşamalar veritabanı thread'ini bloklamasın diye tamamlanma callback executor'a taşınır
+        return future.whenCompleteAsync((result, error) -> { }, executor);
+    }
+
+    /**
+     * İşlemi veritabanı thread'inde çalıştırıp sonucu callback'e iletir
+     * @param task Çalıştırılacak işlem
+     * @param callback Sonuç callback'i (null olabilir)
+     * @throws RejectedExecutionException FAIL_FAST politikasında kuyruk doluysa
+     */
+    <T> void runAsync(Supplier<T> task, Consumer<T> callback) {
+        execute(() -> {
+            T result = task.get();
+            if (callback == null) {
+                return;
+            }
+            Executor executor = callbackExecutor;
+            if (executor != null) {
+                executor.execute(() -> callback.accept(result));
+            } else {
                 callback.accept(result);
             }
         });
     }
 
+    /**
+     * Satırı bu thread'in son satırına yazan select işlemlerini çalıştırır. Callback'in getString/getInteger ile
+     * aynı satırı okuyabilmesi için callback executor'a taşınmaz, işlemle aynı veritabanı thread'inde çalışır.
+     * @param task Satır bulunduysa true döndüren işlem
+     * @param callback Sonuç callback'i (null olabilir)
+     * @throws RejectedExecutionException FAIL_FAST politikasında kuyruk doluysa
+     */
+    private void runRowAsync(Supplier<Boolean> task, Consumer<Boolean> callback) {
+        execute(() -> {
+            Boolean found = task.get();
+            if (callback != null) {
+                callback.accept(found);
+            }
+        });
+    }
+
+    public void connectAsync(Consumer<Boolean> callback) {
+        runAsync(() -> connect(), callback);
+    }
+
+    /**
+     * Veritabanına asenkron bağlanır
+     * @return Bağlantı başarılı ise true ile tamamlanan future
+     */
+    public CompletableFuture<Boolean> connectAsync() {
+        return supplyAsync(this::connect);
+    }
+
     /**
      * Veritabanı bağlantısının durumunu kontrol eder
      * @return Bağlantı açık ise true
      */
     public boolean isConnected() {
-        try {
-            return connection != null && !connection.isClosed() && isConnected;
-        } catch (SQLException e) {
-            return false;
-        }
+        return isConnected && pool.isOpen();
     }
 
     /**
@@ -142,12 +816,15 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     public void reconnectAsync(Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = reconnect();
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> reconnect(), callback);
+    }
+
+    /**
+     * Asenkron bağlantı yenileme
+     * @return Yenileme başarılı ise true ile tamamlanan future
+     */
+    public CompletableFuture<Boolean> reconnectAsync() {
+        return supplyAsync(this::reconnect);
     }
 
     /**
@@ -162,23 +839,48 @@ public class DBManager {
         return executorService;
     }
 
+    /**
+     * Bağlantı havuzunu döndürür (ayarlar ve metrikler için)
+     * @return ConnectionPool nesnesi
+     */
+    public ConnectionPool getConnectionPool() {
+        return pool;
+    }
+
+    /**
+     * WAL modundaki okuyucu bağlantı havuzunu döndürür
+     * @return ConnectionPool nesnesi, WAL modu kapalıysa null
+     */
+    public ConnectionPool getReadConnectionPool() {
+        return readPool;
+    }
+
     /**
      * Veritabanı bağlantısını kapatır
      * @param shutdownExecutor ExecutorService'i kapatma için
      */
     private void close(boolean shutdownExecutor) {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                isConnected = false;
-                System.out.println("Database connection closed.");
-            }
+        // Grup commit kuyruğundaki satırlar havuz kapanmadan yazılır
+        GroupCommitWriter writer;
+        synchronized (this) {
+            writer = groupCommitWriter;
+            groupCommitWriter = null;
+        }
+        if (writer != null) {
+            writer.close();
+        }
 
-            if (shutdownExecutor) {
-                executorService.shutdown();
-            }
-        } catch (SQLException e) {
-            System.err.println("Database closing error: " + e.getMessage());
+        if (readPool != null) {
+            readPool.close();
+        }
+        if (pool.isOpen()) {
+            pool.close();
+            System.out.println("Database connection closed.");
+        }
+        isConnected = false;
+
+        if (shutdownExecutor && ownsExecutor) {
+            executorService.shutdown();
         }
     }
 
@@ -192,48 +894,48 @@ public class DBManager {
     }
 
     /**
-     * Veritabanından String değer alır
+     * Bu thread'de select() veya first() ile okunan son satırdan String değer alır
      * @param columnName Sütun adı
      * @param defaultValue Varsayılan değer
      * @return String değeri
      */
     public String getString(String columnName, String defaultValue) {
-        Object value = values.get(columnName);
+        Object value = currentRow.get().get(columnName);
         return value != null ? value.toString() : defaultValue;
     }
 
     /**
-     * Veritabanından Integer değer alır
+     * Bu thread'de okunan son satırdan Integer değer alır
      * @param columnName Sütun adı
      * @param defaultValue Varsayılan değer
      * @return Integer değeri
      */
     public int getInteger(String columnName, int defaultValue) {
-        Object value = values.get(columnName);
+        Object value = currentRow.get().get(columnName);
         if (value == null) return defaultValue;
         return value instanceof Integer ? (int) value : Integer.parseInt(value.toString());
     }
 
     /**
-     * Veritabanından Double değer alır
+     * Bu thread'de okunan son satırdan Double değer alır
      * @param columnName Sütun adı
      * @param defaultValue Varsayılan değer
      * @return Double değeri
      */
     public double getDouble(String columnName, double defaultValue) {
-        Object value = values.get(columnName);
+        Object value = currentRow.get().get(columnName);
         if (value == null) return defaultValue;
         return value instanceof Double ? (double) value : Double.parseDouble(value.toString());
     }
 
     /**
-     * Veritabanından Boolean değer alır
+     * Bu thread'de okunan son satırdan Boolean değer alır
      * @param columnName Sütun adı
      * @param defaultValue Varsayılan değer
      * @return Boolean değeri
      */
     public boolean getBoolean(String columnName, boolean defaultValue) {
-        Object value = values.get(columnName);
+        Object value = currentRow.get().get(columnName);
         if (value == null) return defaultValue;
         if (value instanceof Boolean) return (boolean) value;
         String strValue = value.toString().toLowerCase();
@@ -243,12 +945,28 @@ public class DBManager {
     /**
      * Tabloyu oluşturur
      * @param tableName Tablo adı
+     * @param columns Sütun tanımları
+     * @param dropIfExists Varsa silip yeniden oluşturmak için
      * @return Başarılı ise true
      */
-    boolean createTable(String tableName, boolean dropIfExists) {
-        if (!ensureConnection()) return false;
-
+    boolean createTable(String tableName, Collection<ColumnDefinition> columns, boolean dropIfExists) {
         try {
+            return createTableChecked(tableName, columns, dropIfExists);
+        } catch (SQLException e) {
+            System.err.println("Table creation error: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Tabloyu oluşturur, hata durumunda istisna fırlatır
+     * @return Oluşturulduysa true
+     * @throws SQLException Veritabanı hatasında
+     */
+    boolean createTableChecked(String tableName, Collection<ColumnDefinition> columns, boolean dropIfExists) throws SQLException {
+        return withConnection(false, pooled -> {
+            Connection connection = pooled.getConnection();
+
             if (dropIfExists) {
                 String dropSql = "DROP TABLE IF EXISTS " + tableName;
                 Statement dropStmt = connection.createStatement();
@@ -265,7 +983,7 @@ public class DBManager {
                 sql.append("id INT AUTO_INCREMENT PRIMARY KEY");
             }
 
-            for (ColumnDefinition column : columns.values()) {
+            for (ColumnDefinition column : columns) {
                 sql.append(", ");
 
                 // MySQL'de veri tipi dönüşümlerini yap
@@ -311,10 +1029,7 @@ public class DBManager {
 
             System.out.println("Table created successfully: " + tableName);
             return true;
-        } catch (SQLException e) {
-            System.err.println("Table creation error: " + e.getMessage());
-            return false;
-        }
+        });
     }
 
     /**
@@ -339,163 +1054,766 @@ public class DBManager {
             return "TIMESTAMP";
         }
 
-        return sqliteType; // Bilinmeyen tipler için orijinal tipi kullan
+        return sqliteType; // Bilinmeyen tipler için orijinal tipi kullan
+    }
+
+    /**
+     * Verileri tabloya ekler
+     * @param tableName Tablo adı
+     * @param values Sütun adı - değer eşlemeleri
+     * @return Eklenen satır ID'si, hata durumunda -1
+     */
+    long insertData(String tableName, Map<String, Object> values) {
+        try {
+            return insertDataChecked(tableName, values);
+        } catch (SQLException e) {
+            System.err.println("Data insertion error: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Verileri tabloya ekler, hata durumunda istisna fırlatır
+     * @return Eklenen satır ID'si
+     * @throws SQLException Veritabanı hatasında
+     */
+    long insertDataChecked(String tableName, Map<String, Object> values) throws SQLException {
+        return withConnection(false, pooled -> insertRow(pooled, tableName, values));
+    }
+
+    /**
+     * Ödünç alınmış bağlantı üzerinde tek satır ekler
+     * @param pooled Bağlantı
+     * @param tableName Tablo adı
+     * @param values Sütun adı - değer eşlemeleri
+     * @return Eklenen satır ID'si
+     * @throws SQLException Veritabanı hatasında
+     */
+    long insertRow(PooledConnection pooled, String tableName, Map<String, Object> values) throws SQLException {
+        // Değer girilmemiş sütunlar için tablodaki DEFAULT değerleri veritabanı tarafından uygulanır
+        StringBuilder columnNames = new StringBuilder();
+        StringBuilder placeholders = new StringBuilder();
+        List<Object> valuesList = new ArrayList<>();
+
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (!first) {
+                columnNames.append(", ");
+                placeholders.append(", ");
+            }
+            first = false;
+
+            columnNames.append(entry.getKey());
+            placeholders.append("?");
+            valuesList.add(entry.getValue());
+        }
+
+        String sql = "INSERT INTO " + tableName + " (" + columnNames + ") VALUES (" + placeholders + ")";
+
+        PreparedStatement pstmt = pooled.prepare(sql, true);
+
+        for (int i = 0; i < valuesList.size(); i++) {
+            Object value = valuesList.get(i);
+            // Boolean değerleri MySQL için uygun şekilde dönüştür
+            if (value instanceof Boolean && databaseType == DatabaseType.MYSQL) {
+                pstmt.setInt(i + 1, ((Boolean)value) ? 1 : 0);
+            } else {
+                pstmt.setObject(i + 1, value);
+            }
+        }
+
+        pstmt.executeUpdate();
+
+        long id;
+        try (ResultSet rs = pstmt.getGeneratedKeys()) {
+            id = rs.next() ? rs.getLong(1) : -1;
+        }
+
+        System.out.println("Data inserted into table: " + tableName + ", ID: " + id);
+        return id;
+    }
+
+    /**
+     * Birden fazla kaydı tek transaction içinde toplu olarak ekler
+     * @param tableName Tablo adı
+     * @param valuesList Eklenecek kayıtlar (sütunlar ilk kayıttan alınır)
+     * @return Eklenen kayıt sayısı, hata durumunda -1
+     */
+    int insertBatch(String tableName, List<Map<String, Object>> valuesList) {
+        BatchStats stats = insertBatch(tableName, valuesList, BatchSizer.fixed(BatchSizer.DEFAULT_BATCH_SIZE), false);
+        return stats != null ? stats.getRows() : -1;
+    }
+
+    /**
+     * Birden fazla kaydı tek transaction içinde toplu olarak ekler
+     * @param tableName Tablo adı
+     * @param valuesList Eklenecek kayıtlar (sütunlar ilk kayıttan alınır)
+     * @param sizer Batch boyutu stratejisi
+     * @param returnKeys Üretilen anahtarlar istenecekse true
+     * @return Yükleme istatistikleri, hata durumunda null
+     */
+    BatchStats insertBatch(String tableName, List<Map<String, Object>> valuesList, BatchSizer sizer, boolean returnKeys) {
+        try {
+            return insertBatchChecked(tableName, valuesList, sizer, returnKeys);
+        } catch (SQLException e) {
+            System.err.println("Batch insert hatası: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Birden fazla kaydı tek transaction içinde ekler, hata durumunda istisna fırlatır
+     * @return Yükleme istatistikleri
+     * @throws SQLException Veritabanı hatasında
+     */
+    BatchStats insertBatchChecked(String tableName, List<Map<String, Object>> valuesList, BatchSizer sizer,
+                                  boolean returnKeys) throws SQLException {
+        if (valuesList == null || valuesList.isEmpty()) {
+            return new BatchStats(0, 0, 0, sizer.getBatchSize(), returnKeys ? new long[0] : null);
+        }
+        // Sütunlar ilk kayıttan alınır
+        List<String> columnList = new ArrayList<>(valuesList.get(0).keySet());
+
+        return withConnection(false, pooled -> inTransaction(pooled, () -> {
+            long start = System.nanoTime();
+            long[] keys = returnKeys ? new long[valuesList.size()] : null;
+            int batches;
+            if (keys != null && databaseType == DatabaseType.SQLITE) {
+                // SQLite toplu ifadelerde sadece son ID'yi döndürür; transaction içinde satır satır eklemek yeterince hızlıdır
+                batches = insertRowsReturningKeys(pooled, tableName, columnList, valuesList, keys);
+            } else if (sizer.isMultiRow()) {
+                batches = insertMultiRow(pooled, tableName, columnList, valuesList, sizer, keys, null);
+            } else {
+                batches = insertJdbcBatch(pooled, tableName, columnList, valuesList, sizer, keys, null);
+            }
+
+            BatchStats stats = new BatchStats(valuesList.size(), batches, System.nanoTime() - start,
+                    sizer.getBatchSize(), keys);
+            System.out.println("Batch inserted into table: " + tableName + ", " + stats);
+            return stats;
+        }));
+    }
+
+    /**
+     * Birden fazla kaydı tek transaction içinde ekler; anahtar sütunları çakışan kayıtlar güncellenir
+     * @param tableName Tablo adı
+     * @param valuesList Kayıtlar (sütunlar ilk kayıttan alınır)
+     * @param conflictColumns Çakışma anahtarı sütunları
+     * @param updateColumns Çakışmada güncellenecek sütunlar (null ise anahtar dışındaki tüm sütunlar)
+     * @param sizer Batch boyutu stratejisi
+     * @return Yükleme istatistikleri, hata durumunda null
+     */
+    BatchStats upsertBatch(String tableName, List<Map<String, Object>> valuesList, List<String> conflictColumns,
+                           List<String> updateColumns, BatchSizer sizer) {
+        try {
+            return upsertBatchChecked(tableName, valuesList, conflictColumns, updateColumns, sizer);
+        } catch (SQLException e) {
+            System.err.println("Batch upsert hatası: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Birden fazla kaydı upsert eder, hata durumunda istisna fırlatır
+     * @return Yükleme istatistikleri
+     * @throws SQLException Veritabanı hatasında
+     */
+    BatchStats upsertBatchChecked(String tableName, List<Map<String, Object>> valuesList, List<String> conflictColumns,
+                                  List<String> updateColumns, BatchSizer sizer) throws SQLException {
+        if (valuesList == null || valuesList.isEmpty()) {
+            return new BatchStats(0, 0, 0, sizer.getBatchSize(), null);
+        }
+        List<String> columnList = new ArrayList<>(valuesList.get(0).keySet());
+        String conflictClause = buildConflictClause(columnList, conflictColumns, updateColumns);
+
+        return withConnection(false, pooled -> inTransaction(pooled, () -> {
+            long start = System.nanoTime();
+            int batches = sizer.isMultiRow()
+                    ? insertMultiRow(pooled, tableName, columnList, valuesList, sizer, null, conflictClause)
+                    : insertJdbcBatch(pooled, tableName, columnList, valuesList, sizer, null, conflictClause);
+
+            BatchStats stats = new BatchStats(valuesList.size(), batches, System.nanoTime() - start,
+                    sizer.getBatchSize(), null);
+            System.out.println("Batch upserted into table: " + tableName + ", " + stats);
+            return stats;
+        }));
+    }
+
+    /**
+     * Tek bir kaydı upsert eden INSERT ... ON CONFLICT / ON DUPLICATE KEY UPDATE sorgusunu oluşturur
+     * @param tableName Tablo adı
+     * @param columnList Eklenecek sütunlar
+     * @param conflictColumns Çakışma anahtarı sütunları
+     * @param updateColumns Çakışmada güncellenecek sütunlar (null ise anahtar dışındaki tüm sütunlar)
+     * @return SQL sorgusu
+     */
+    String buildUpsertSql(String tableName, List<String> columnList, List<String> conflictColumns,
+                          List<String> updateColumns) {
+        return buildInsertSql(tableName, columnList, 1) + " " + buildConflictClause(columnList, conflictColumns, updateColumns);
+    }
+
+    /**
+     * Veritabanı türüne göre çakışma ifadesini oluşturur.
+     * SQLite: ON CONFLICT(k) DO UPDATE SET c = excluded.c, MySQL: ON DUPLICATE KEY UPDATE c = VALUES(c)
+     */
+    private String buildConflictClause(List<String> columnList, List<String> conflictColumns, List<String> updateColumns) {
+        if (conflictColumns == null || conflictColumns.isEmpty()) {
+            throw new IllegalArgumentException("Upsert için çakışma sütunları gereklidir");
+        }
+        List<String> updates = updateColumns;
+        if (updates == null) {
+            updates = new ArrayList<>(columnList);
+            updates.removeAll(conflictColumns);
+        }
+
+        StringBuilder clause = new StringBuilder();
+        if (databaseType == DatabaseType.MYSQL) {
+            clause.append("ON DUPLICATE KEY UPDATE ");
+            if (updates.isEmpty()) {
+                // Güncellenecek sütun yoksa mevcut satır olduğu gibi bırakılır
+                clause.append(conflictColumns.get(0)).append(" = ").append(conflictColumns.get(0));
+            }
+            for (int i = 0; i < updates.size(); i++) {
+                if (i > 0) {
+                    clause.append(", ");
+                }
+                clause.append(updates.get(i)).append(" = VALUES(").append(updates.get(i)).append(")");
+            }
+        } else {
+            clause.append("ON CONFLICT(").append(String.join(", ", conflictColumns)).append(") ");
+            if (updates.isEmpty()) {
+                clause.append("DO NOTHING");
+            } else {
+                clause.append("DO UPDATE SET ");
+                for (int i = 0; i < updates.size(); i++) {
+                    if (i > 0) {
+                        clause.append(", ");
+                    }
+                    clause.append(updates.get(i)).append(" = excluded.").append(updates.get(i));
+                }
+            }
+        }
+        return clause.toString();
+    }
+
+    /**
+     * Birden fazla kaydı anahtar sütunlarına göre tek transaction içinde günceller
+     * @param tableName Tablo adı
+     * @param valuesList Kayıtlar; her kayıt anahtar sütununu ve güncellenecek sütunları içerir (sütunlar ilk kayıttan alınır)
+     * @param keyColumn Satırları belirleyen anahtar sütunu
+     * @param sizer Batch boyutu stratejisi (multiRow ise CASE ifadeli tek UPDATE kullanılır)
+     * @return Yükleme istatistikleri, hata durumunda null
+     */
+    BatchStats updateBatch(String tableName, List<Map<String, Object>> valuesList, String keyColumn, BatchSizer sizer) {
+        try {
+            return updateBatchChecked(tableName, valuesList, keyColumn, sizer);
+        } catch (SQLException e) {
+            System.err.println("Batch update hatası: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Birden fazla kaydı anahtar sütunlarına göre günceller, hata durumunda istisna fırlatır
+     * @return Yükleme istatistikleri
+     * @throws SQLException Veritabanı hatasında
+     */
+    BatchStats updateBatchChecked(String tableName, List<Map<String, Object>> valuesList, String keyColumn,
+                                  BatchSizer sizer) throws SQLException {
+        if (valuesList == null || valuesList.isEmpty()) {
+            return new BatchStats(0, 0, 0, sizer.getBatchSize(), null);
+        }
+        List<String> columnList = new ArrayList<>(valuesList.get(0).keySet());
+        if (!columnList.remove(keyColumn)) {
+            throw new IllegalArgumentException("Kayıtlar anahtar sütununu içermelidir: " + keyColumn);
+        }
+        if (columnList.isEmpty()) {
+            throw new IllegalArgumentException("Güncellenecek sütun bulunamadı");
+        }
+
+        return withConnection(false, pooled -> inTransaction(pooled, () -> {
+            long start = System.nanoTime();
+            int batches = sizer.isMultiRow()
+                    ? updateCaseRows(pooled, tableName, keyColumn, columnList, valuesList, sizer)
+                    : updateJdbcBatch(pooled, tableName, keyColumn, columnList, valuesList, sizer);
+
+            BatchStats stats = new BatchStats(valuesList.size(), batches, System.nanoTime() - start,
+                    sizer.getBatchSize(), null);
+            System.out.println("Batch updated table: " + tableName + ", " + stats);
+            return stats;
+        }));
+    }
+
+    /**
+     * Kayıtları tek satırlık UPDATE ... WHERE key = ? ve addBatch ile gönderir
+     * @return Gönderilen batch sayısı
+     */
+    private int updateJdbcBatch(PooledConnection pooled, String tableName, String keyColumn, List<String> columnList,
+                                List<Map<String, Object>> valuesList, BatchSizer sizer) throws SQLException {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+        for (int i = 0; i < columnList.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(columnList.get(i)).append(" = ?");
+        }
+        sql.append(" WHERE ").append(keyColumn).append(" = ?");
+        PreparedStatement pstmt = pooled.prepare(sql.toString());
+
+        int batchRows = 0;
+        int batches = 0;
+        long batchStart = System.nanoTime();
+        try {
+            for (Map<String, Object> record : valuesList) {
+                for (int i = 0; i < columnList.size(); i++) {
+                    pstmt.setObject(i + 1, record.get(columnList.get(i)));
+                }
+                pstmt.setObject(columnList.size() + 1, record.get(keyColumn));
+                sizer.recordRow(record.values());
+                pstmt.addBatch();
+                batchRows++;
+
+                if (batchRows >= sizer.getBatchSize()) {
+                    pstmt.executeBatch();
+                    long now = System.nanoTime();
+                    sizer.batchCompleted(batchRows, now - batchStart);
+                    batches++;
+                    batchRows = 0;
+                    batchStart = now;
+                }
+            }
+
+            if (batchRows > 0) {
+                pstmt.executeBatch();
+                batches++;
+            }
+        } catch (SQLException | RuntimeException e) {
+            PooledConnection.discardBatch(pstmt, e);
+            throw e;
+        }
+        return batches;
+    }
+
+    /**
+     * Kayıtları UPDATE t SET c = CASE key WHEN ? THEN ? ... END WHERE key IN (...) ifadeleriyle gönderir.
+     * Aynı anahtar bir ifadede birden fazla kez geçerse ilk değer kullanılır.
+     * @return Gönderilen ifade sayısı
+     */
+    private int updateCaseRows(PooledConnection pooled, String tableName, String keyColumn, List<String> columnList,
+                               List<Map<String, Object>> valuesList, BatchSizer sizer) throws SQLException {
+        // Her satır sütun başına anahtar + değer ve IN listesi için bir anahtar bağlar
+        int parametersPerRow = columnList.size() * 2 + 1;
+        int maxRows = maxRowsPerStatement(pooled.getConnection(), parametersPerRow,
+                BatchSizer.estimateRowBytes(valuesList) * 2);
+
+        int batches = 0;
+        int index = 0;
+        while (index < valuesList.size()) {
+            int rows = Math.min(Math.min(sizer.getBatchSize(), maxRows), valuesList.size() - index);
+            long batchStart = System.nanoTime();
+
+            PreparedStatement pstmt = pooled.prepare(buildCaseUpdateSql(tableName, keyColumn, columnList, rows));
+            int parameterIndex = 1;
+            for (String column : columnList) {
+                for (int r = index; r < index + rows; r++) {
+                    Map<String, Object> record = valuesList.get(r);
+                    pstmt.setObject(parameterIndex++, record.get(keyColumn));
+                    pstmt.setObject(parameterIndex++, record.get(column));
+                }
+            }
+            for (int r = index; r < index + rows; r++) {
+                Map<String, Object> record = valuesList.get(r);
+                pstmt.setObject(parameterIndex++, record.get(keyColumn));
+                sizer.recordRow(record.values());
+            }
+            pstmt.executeUpdate();
+
+            sizer.batchCompleted(rows, System.nanoTime() - batchStart);
+            index += rows;
+            batches++;
+        }
+        return batches;
+    }
+
+    /**
+     * UPDATE t SET a = CASE id WHEN ? THEN ? ... ELSE a END, ... WHERE id IN (?, ...) ifadesini oluşturur
+     * @param tableName Tablo adı
+     * @param keyColumn Anahtar sütunu
+     * @param columnList Güncellenecek sütunlar
+     * @param rows Satır sayısı
+     * @return SQL sorgusu
+     */
+    static String buildCaseUpdateSql(String tableName, String keyColumn, List<String> columnList, int rows) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+        for (int i = 0; i < columnList.size(); i++) {
+            String column = columnList.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(column).append(" = CASE ").append(keyColumn);
+            for (int r = 0; r < rows; r++) {
+                sql.append(" WHEN ? THEN ?");
+            }
+            sql.append(" ELSE ").append(column).append(" END");
+        }
+        sql.append(" WHERE ").append(keyColumn).append(" IN (");
+        for (int r = 0; r < rows; r++) {
+            if (r > 0) {
+                sql.append(", ");
+            }
+            sql.append("?");
+        }
+        return sql.append(")").toString();
+    }
+
+    /**
+     * İşi bağlantı üzerinde tek transaction içinde çalıştırır.
+     * Açık bir transaction içindeysek (transaction() veya dış autocommit kapalıysa) commit ona bırakılır;
+     * iş bir savepoint içinde çalışır ve hata verirse sadece kendi yaptıkları geri alınır.
+     * @param pooled Bağlantı
+     * @param call Çalıştırılacak iş
+     * @return İşin sonucu
+     * @throws SQLException İş başarısız olursa (geri alındıktan sonra)
+     */
+    <T> T inTransaction(PooledConnection pooled, SqlCall<T> call) throws SQLException {
+        Connection connection = pooled.getConnection();
+        boolean ownTransaction = connection.getAutoCommit();
+        Savepoint savepoint = null;
+        if (ownTransaction) {
+            connection.setAutoCommit(false);
+        } else {
+            savepoint = connection.setSavepoint();
+        }
+        try {
+            T result = call.call();
+            if (ownTransaction) {
+                connection.commit();
+            } else {
+                connection.releaseSavepoint(savepoint);
+            }
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            try {
+                if (ownTransaction) {
+                    connection.rollback();
+                } else {
+                    connection.rollback(savepoint);
+                }
+            } catch (SQLException rollbackError) {
+                e.addSuppressed(rollbackError);
+            }
+            throw e;
+        } finally {
+            if (ownTransaction) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Kayıtları tek satırlık INSERT ve addBatch ile gönderir
+     * @param conflictClause Upsert için çakışma ifadesi, düz insert için null
+     * @return Gönderilen batch sayısı
+     */
+    private int insertJdbcBatch(PooledConnection pooled, String tableName, List<String> columnList,
+                                List<Map<String, Object>> valuesList, BatchSizer sizer, long[] keys,
+                                String conflictClause) throws SQLException {
+        PreparedStatement pstmt = pooled.prepare(buildInsertSql(tableName, columnList, 1, conflictClause), keys != null);
+
+        int keyCount = 0;
+        int batchRows = 0;
+        int batches = 0;
+        long batchStart = System.nanoTime();
+        try {
+            for (Map<String, Object> record : valuesList) {
+                for (int i = 0; i < columnList.size(); i++) {
+                    pstmt.setObject(i + 1, record.get(columnList.get(i)));
+                }
+                sizer.recordRow(record.values());
+                pstmt.addBatch();
+                batchRows++;
+
+                // Batch boyutuna ulaşınca işle; uyarlamalı modda boyut ölçülen süreye göre güncellenir
+                if (batchRows >= sizer.getBatchSize()) {
+                    pstmt.executeBatch();
+                    keyCount = readGeneratedKeys(pstmt, keys, keyCount, batchRows);
+                    long now = System.nanoTime();
+                    sizer.batchCompleted(batchRows, now - batchStart);
+                    batches++;
+                    batchRows = 0;
+                    batchStart = now;
+                }
+            }
+
+            // Kalan batch'leri işle
+            if (batchRows > 0) {
+                pstmt.executeBatch();
+                readGeneratedKeys(pstmt, keys, keyCount, batchRows);
+                batches++;
+            }
+        } catch (SQLException | RuntimeException e) {
+            PooledConnection.discardBatch(pstmt, e);
+            throw e;
+        }
+        return batches;
     }
 
     /**
-     * Verileri tabloya ekler
-     * @param tableName Tablo adı
-     * @return Eklenen satır ID'si, hata durumunda -1
+     * Kayıtları tek tek ekleyip her satırın üretilen anahtarını okur (SQLite)
+     * @return Çalıştırılan ifade sayısı
      */
-    long insertData(String tableName) {
-        if (!ensureConnection()) return -1;
-
-        try {
-            // Değer girilmemiş varsayılan değerleri olan sütunlar için değerleri ekleyelim
-            for (Map.Entry<String, ColumnDefinition> entry : columns.entrySet()) {
-                String columnName = entry.getKey();
-                ColumnDefinition column = entry.getValue();
-
-                // Eğer kullanıcı bu sütun için değer girmediyse ve varsayılan değer tanımlıysa
-                if (!values.containsKey(columnName) && column.defaultValue != null) {
-                    values.put(columnName, column.defaultValue);
-                }
+    private int insertRowsReturningKeys(PooledConnection pooled, String tableName, List<String> columnList,
+                                        List<Map<String, Object>> valuesList, long[] keys) throws SQLException {
+        PreparedStatement pstmt = pooled.prepare(buildInsertSql(tableName, columnList, 1), true);
+        for (int r = 0; r < valuesList.size(); r++) {
+            Map<String, Object> record = valuesList.get(r);
+            for (int i = 0; i < columnList.size(); i++) {
+                pstmt.setObject(i + 1, record.get(columnList.get(i)));
             }
+            pstmt.executeUpdate();
+            readGeneratedKeys(pstmt, keys, r, 1);
+        }
+        return valuesList.size();
+    }
 
-            StringBuilder columnNames = new StringBuilder();
-            StringBuilder placeholders = new StringBuilder();
-            List<Object> valuesList = new ArrayList<>();
+    /**
+     * Son çalıştırılan ifadenin ürettiği anahtarları diziye okur
+     * @param pstmt Statement
+     * @param keys Hedef dizi (null ise okunmaz)
+     * @param offset Dizide yazmaya başlanacak konum
+     * @param expected Beklenen anahtar sayısı
+     * @return Bir sonraki yazma konumu
+     * @throws SQLException Sürücü beklenen sayıda anahtar döndürmezse
+     */
+    private static int readGeneratedKeys(PreparedStatement pstmt, long[] keys, int offset, int expected) throws SQLException {
+        if (keys == null) {
+            return offset;
+        }
+        int index = offset;
+        try (ResultSet rs = pstmt.getGeneratedKeys()) {
+            while (rs.next() && index < offset + expected) {
+                keys[index++] = rs.getLong(1);
+            }
+        }
+        if (index != offset + expected) {
+            throw new SQLException("Expected " + expected + " generated keys, driver returned " + (index - offset));
+        }
+        return index;
+    }
 
-            boolean first = true;
-            for (Map.Entry<String, Object> entry : values.entrySet()) {
-                if (!first) {
-                    columnNames.append(", ");
-                    placeholders.append(", ");
+    /**
+     * Kayıtları çok satırlı INSERT ... VALUES (...),(...) ifadeleriyle gönderir.
+     * İfade başına satır sayısı parametre sınırı (SQLite) ve max_allowed_packet (MySQL) altında tutulur.
+     * @param conflictClause Upsert için çakışma ifadesi, düz insert için null
+     * @return Gönderilen ifade sayısı
+     */
+    private int insertMultiRow(PooledConnection pooled, String tableName, List<String> columnList,
+                               List<Map<String, Object>> valuesList, BatchSizer sizer, long[] keys,
+                               String conflictClause) throws SQLException {
+        int maxRows = maxRowsPerStatement(pooled.getConnection(), columnList.size(),
+                BatchSizer.estimateRowBytes(valuesList));
+
+        int batches = 0;
+        int index = 0;
+        while (index < valuesList.size()) {
+            int rows = Math.min(Math.min(sizer.getBatchSize(), maxRows), valuesList.size() - index);
+            long batchStart = System.nanoTime();
+
+            // Tam boyutlu ifadeler aynı SQL metnine sahip olduğu için önbellekteki statement tekrar kullanılır
+            PreparedStatement pstmt = pooled.prepare(buildInsertSql(tableName, columnList, rows, conflictClause),
+                    keys != null);
+            int parameterIndex = 1;
+            for (int r = index; r < index + rows; r++) {
+                Map<String, Object> record = valuesList.get(r);
+                for (String column : columnList) {
+                    pstmt.setObject(parameterIndex++, record.get(column));
                 }
-                first = false;
-
-                columnNames.append(entry.getKey());
-                placeholders.append("?");
-                valuesList.add(entry.getValue());
+                sizer.recordRow(record.values());
             }
+            pstmt.executeUpdate();
+            readGeneratedKeys(pstmt, keys, index, rows);
 
-            String sql = "INSERT INTO " + tableName + " (" + columnNames + ") VALUES (" + placeholders + ")";
+            sizer.batchCompleted(rows, System.nanoTime() - batchStart);
+            index += rows;
+            batches++;
+        }
+        return batches;
+    }
 
-            PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+    /**
+     * INSERT INTO t (a, b) VALUES (?, ?), (?, ?) ... ifadesini oluşturur
+     * @param tableName Tablo adı
+     * @param columnList Sütunlar
+     * @param rows Satır sayısı
+     * @return SQL sorgusu
+     */
+    static String buildInsertSql(String tableName, List<String> columnList, int rows) {
+        StringBuilder rowPlaceholders = new StringBuilder("(");
+        for (int i = 0; i < columnList.size(); i++) {
+            if (i > 0) {
+                rowPlaceholders.append(", ");
+            }
+            rowPlaceholders.append("?");
+        }
+        rowPlaceholders.append(")");
 
-            for (int i = 0; i < valuesList.size(); i++) {
-                Object value = valuesList.get(i);
-                // Boolean değerleri MySQL için uygun şekilde dönüştür
-                if (value instanceof Boolean && databaseType == DatabaseType.MYSQL) {
-                    pstmt.setInt(i + 1, ((Boolean)value) ? 1 : 0);
-                } else {
-                    pstmt.setObject(i + 1, value);
-                }
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName)
+                .append(" (").append(String.join(", ", columnList)).append(") VALUES ");
+        for (int r = 0; r < rows; r++) {
+            if (r > 0) {
+                sql.append(", ");
             }
+            sql.append(rowPlaceholders);
+        }
+        return sql.toString();
+    }
 
-            pstmt.executeUpdate();
+    private static String buildInsertSql(String tableName, List<String> columnList, int rows, String conflictClause) {
+        String sql = buildInsertSql(tableName, columnList, rows);
+        return conflictClause != null ? sql + " " + conflictClause : sql;
+    }
 
-            ResultSet rs = pstmt.getGeneratedKeys();
-            long id = rs.next() ? rs.getLong(1) : -1;
+    /**
+     * Tek bir çok satırlı ifadeye sığabilecek en fazla satır sayısını hesaplar
+     * @param connection Bağlantı
+     * @param columnCount Satır başına sütun sayısı
+     * @param rowBytes Tahmini satır boyutu
+     * @return Satır sayısı (en az 1)
+     * @throws SQLException Sunucu ayarları okunamazsa
+     */
+    private int maxRowsPerStatement(Connection connection, int columnCount, long rowBytes) throws SQLException {
+        int byParameters = Math.max(1, maxBindParameters(connection) / Math.max(1, columnCount));
+        if (databaseType != DatabaseType.MYSQL) {
+            return byParameters;
+        }
+        // Paketin bir kısmı SQL metni ve protokol için ayrılır; her "?, " yaklaşık 3 bayt ekler
+        long usableBytes = maxAllowedPacket(connection) * 3 / 4;
+        long bytesPerRow = Math.max(1, rowBytes + columnCount * 3L);
+        return (int) Math.max(1, Math.min(byParameters, usableBytes / bytesPerRow));
+    }
 
-            pstmt.close();
-            System.out.println("Data inserted into table: " + tableName + ", ID: " + id);
-            return id;
-        } catch (SQLException e) {
-            System.err.println("Data insertion error: " + e.getMessage());
-            return -1;
+    /**
+     * Bir ifadede bağlanabilecek en fazla parametre sayısı.
+     * SQLite 3.32 öncesinde varsayılan 999, sonrasında 32766; MySQL'de 65535.
+     */
+    private int maxBindParameters(Connection connection) throws SQLException {
+        int cached = maxBindParameters;
+        if (cached > 0) {
+            return cached;
         }
+        int limit = 65_535;
+        if (databaseType == DatabaseType.SQLITE) {
+            String[] version = connection.getMetaData().getDatabaseProductVersion().split("\\.");
+            int major = Integer.parseInt(version[0]);
+            int minor = version.length > 1 ? Integer.parseInt(version[1]) : 0;
+            limit = major > 3 || (major == 3 && minor >= 32) ? 32_766 : 999;
+        }
+        maxBindParameters = limit;
+        return limit;
+    }
+
+    /**
+     * MySQL sunucusunun max_allowed_packet değeri (ilk okumadan sonra önbellekten)
+     */
+    private long maxAllowedPacket(Connection connection) throws SQLException {
+        long cached = maxAllowedPacket;
+        if (cached > 0) {
+            return cached;
+        }
+        long packet = 4L * 1024 * 1024;
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT @@max_allowed_packet")) {
+            if (rs.next()) {
+                packet = rs.getLong(1);
+            }
+        }
+        maxAllowedPacket = packet;
+        return packet;
     }
 
     /**
-     * Tablodan veri çeker
+     * Tablodan veri çeker. Okunan satır bu thread için getString/getInteger ile okunabilir.
      * @param tableName Tablo adı
      * @param id Satır ID'si
      * @return Başarılı ise true
      */
     public boolean select(String tableName, long id) {
-        if (!ensureConnection()) return false;
-
-        try {
-            String sql = "SELECT * FROM " + tableName + " WHERE id = ?";
-            PreparedStatement pstmt = connection.prepareStatement(sql);
-            pstmt.setLong(1, id);
-
-            ResultSet rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                ResultSetMetaData metaData = rs.getMetaData();
-                int columnCount = metaData.getColumnCount();
-
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = metaData.getColumnName(i);
-                    if (!columnName.equals("id")) {
-                        Object value = rs.getObject(i);
-                        values.put(columnName, value);
-                    }
-                }
+        QueryResult row = find(tableName, id);
+        if (row == null) return false;
 
-                pstmt.close();
-                return true;
-            }
+        currentRow.set(row.getData());
+        return true;
+    }
 
-            pstmt.close();
-            return false;
+    /**
+     * Tablodan ID ile tek satır çeker
+     * @param tableName Tablo adı
+     * @param id Satır ID'si
+     * @return Satır, bulunamazsa veya hata durumunda null
+     */
+    public QueryResult find(String tableName, long id) {
+        try {
+            return findChecked(tableName, id);
         } catch (SQLException e) {
             System.err.println("Data retrieval error: " + e.getMessage());
-            return false;
+            return null;
         }
     }
 
     /**
-     * Tablodan veri çeker (asenkron)
-     * @param tableName Tablo adı
-     * @param id Satır ID'si
-     * @param callback Sonuç callback'i
+     * Tablodan ID ile tek satır çeker, hata durumunda istisna fırlatır
+     * @return Satır, bulunamazsa null
+     * @throws SQLException Veritabanı hatasında
      */
-    public void selectAsync(String tableName, long id, Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = select(tableName, id);
-            if (callback != null) {
-                callback.accept(result);
+    QueryResult findChecked(String tableName, long id) throws SQLException {
+        return withConnection(true, pooled -> {
+            String sql = "SELECT * FROM " + tableName + " WHERE id = ?";
+            PreparedStatement pstmt = pooled.prepare(sql);
+            pstmt.setLong(1, id);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) return null;
+
+                return new QueryResult(ResultRow.read(ResultRow.Columns.of(rs.getMetaData()), rs));
             }
         });
     }
 
     /**
-     * Sütun ekleme veya güncelleme
-     * @param name Sütun adı
-     * @param type Veri tipi
-     * @param constraints Kısıtlamalar
+     * Tablodan veri çeker (asenkron). Callback, satırın getString/getInteger ile okunabilmesi için callback
+     * executor'da değil sorguyu çalıştıran thread'de çağrılır; uzun işler için {@link #findAsync} tercih edilmelidir.
+     * @param tableName Tablo adı
+     * @param id Satır ID'si
+     * @param callback Sonuç callback'i
      */
-    void addColumn(String name, String type, String constraints) {
-        columns.put(name, new ColumnDefinition(name, type, constraints));
+    public void selectAsync(String tableName, long id, Consumer<Boolean> callback) {
+        runRowAsync(() -> select(tableName, id), callback);
     }
 
     /**
-     * Sütun ekleme veya güncelleme
-     * @param name Sütun adı
-     * @param type Veri tipi
-     * @param constraints Kısıtlamalar
-     * @param defaultValue Varsayılan değer
+     * Tablodan ID ile tek satır çeker (asenkron)
+     * @param tableName Tablo adı
+     * @param id Satır ID'si
+     * @param callback Sonuç callback'i (bulunamazsa null)
      */
-    void addColumn(String name, String type, String constraints, Object defaultValue) {
-        columns.put(name, new ColumnDefinition(name, type, constraints, defaultValue));
+    public void findAsync(String tableName, long id, Consumer<QueryResult> callback) {
+        runAsync(() -> find(tableName, id), callback);
     }
 
     /**
-     * Değer atama
-     * @param columnName Sütun adı
-     * @param value Değer
+     * Tablodan ID ile tek satır çeker (asenkron)
+     * @param tableName Tablo adı
+     * @param id Satır ID'si
+     * @return Satırla (bulunamazsa null) tamamlanan future, hata durumunda SQLException ile tamamlanır
      */
-    void setValue(String columnName, Object value) {
-        values.put(columnName, value);
+    public CompletableFuture<QueryResult> findAsync(String tableName, long id) {
+        return supplyAsync(() -> findChecked(tableName, id));
     }
 
     /**
      * Sütun tanımı sınıfı
      */
-    private static class ColumnDefinition {
+    static class ColumnDefinition {
         String name;
         String type;
         String constraints;
@@ -524,49 +1842,56 @@ public class DBManager {
     }
 
     /**
-     * Sorgu ile veri çeker (tek sonuç)
+     * Sorgu ile veri çeker (tek sonuç). Okunan satır bu thread için getString/getInteger ile okunabilir.
      * @param tableName Tablo adı
      * @param queryBuilder Sorgu oluşturucu
      * @param firstOnly Sadece ilk sonuç için true
      * @return Başarılı ise true
      */
     boolean selectByQuery(String tableName, QueryBuilder queryBuilder, boolean firstOnly) {
-        if (!ensureConnection()) return false;
+        QueryResult row = selectFirstByQuery(tableName, queryBuilder);
+        if (row == null) return false;
+
+        currentRow.set(row.getData());
+        return true;
+    }
 
+    /**
+     * Sorgunun ilk satırını çeker
+     * @param tableName Tablo adı
+     * @param queryBuilder Sorgu oluşturucu
+     * @return Satır, bulunamazsa veya hata durumunda null
+     */
+    QueryResult selectFirstByQuery(String tableName, QueryBuilder queryBuilder) {
         try {
+            return selectFirstByQueryChecked(tableName, queryBuilder);
+        } catch (SQLException e) {
+            System.err.println("Query retrieval error: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Sorgunun ilk satırını çeker, hata durumunda istisna fırlatır
+     * @return Satır, bulunamazsa null
+     * @throws SQLException Veritabanı hatasında
+     */
+    QueryResult selectFirstByQueryChecked(String tableName, QueryBuilder queryBuilder) throws SQLException {
+        return withConnection(true, pooled -> {
             String sql = queryBuilder.buildQuery(false);
-            PreparedStatement pstmt = connection.prepareStatement(sql);
+            PreparedStatement pstmt = pooled.prepare(sql);
 
-            List<Object> parameters = queryBuilder.getParameters();
+            List<Object> parameters = queryBuilder.getParameters(false);
             for (int i = 0; i < parameters.size(); i++) {
                 pstmt.setObject(i + 1, parameters.get(i));
             }
 
-            ResultSet rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                // Mevcut values haritasını temizle
-                values.clear();
-
-                ResultSetMetaData metaData = rs.getMetaData();
-                int columnCount = metaData.getColumnCount();
-
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = metaData.getColumnName(i);
-                    Object value = rs.getObject(i);
-                    values.put(columnName, value);
-                }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) return null;
 
-                pstmt.close();
-                return true;
+                return new QueryResult(ResultRow.read(ResultRow.Columns.of(rs.getMetaData()), rs));
             }
-
-            pstmt.close();
-            return false;
-        } catch (SQLException e) {
-            System.err.println("Query retrieval error: " + e.getMessage());
-            return false;
-        }
+        });
     }
 
     /**
@@ -576,42 +1901,33 @@ public class DBManager {
      * @return Sonuç listesi
      */
     List<Map<String, Object>> selectMultipleByQuery(String tableName, QueryBuilder queryBuilder) {
-        if (!ensureConnection()) return new ArrayList<>();
-
-        List<Map<String, Object>> resultList = new ArrayList<>();
-
         try {
+            return selectMultipleByQueryChecked(tableName, queryBuilder);
+        } catch (SQLException e) {
+            System.err.println("Multiple query retrieval error: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Sorgu ile birden fazla veri çeker, hata durumunda istisna fırlatır
+     * @return Sonuç listesi
+     * @throws SQLException Veritabanı hatasında
+     */
+    List<Map<String, Object>> selectMultipleByQueryChecked(String tableName, QueryBuilder queryBuilder) throws SQLException {
+        return withConnection(true, pooled -> {
             String sql = queryBuilder.buildQuery(false);
-            PreparedStatement pstmt = connection.prepareStatement(sql);
+            PreparedStatement pstmt = pooled.prepare(sql);
 
-            List<Object> parameters = queryBuilder.getParameters();
+            List<Object> parameters = queryBuilder.getParameters(false);
             for (int i = 0; i < parameters.size(); i++) {
                 pstmt.setObject(i + 1, parameters.get(i));
             }
 
-            ResultSet rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
-
-                ResultSetMetaData metaData = rs.getMetaData();
-                int columnCount = metaData.getColumnCount();
-
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = metaData.getColumnName(i);
-                    Object value = rs.getObject(i);
-                    row.put(columnName, value);
-                }
-
-                resultList.add(row);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return ResultRow.readAll(rs);
             }
-
-            pstmt.close();
-        } catch (SQLException e) {
-            System.err.println("Multiple query retrieval error: " + e.getMessage());
-        }
-
-        return resultList;
+        });
     }
 
     /**
@@ -621,31 +1937,33 @@ public class DBManager {
      * @return Sonuç sayısı
      */
     int countByQuery(String tableName, QueryBuilder queryBuilder) {
-        if (!ensureConnection()) return 0;
-
         try {
+            return countByQueryChecked(tableName, queryBuilder);
+        } catch (SQLException e) {
+            System.err.println("Count query error: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Sorgu ile veri sayısını çeker, hata durumunda istisna fırlatır
+     * @return Sonuç sayısı
+     * @throws SQLException Veritabanı hatasında
+     */
+    int countByQueryChecked(String tableName, QueryBuilder queryBuilder) throws SQLException {
+        return withConnection(true, pooled -> {
             String sql = queryBuilder.buildQuery(true);
-            PreparedStatement pstmt = connection.prepareStatement(sql);
+            PreparedStatement pstmt = pooled.prepare(sql);
 
-            List<Object> parameters = queryBuilder.getParameters();
+            List<Object> parameters = queryBuilder.getParameters(true);
             for (int i = 0; i < parameters.size(); i++) {
                 pstmt.setObject(i + 1, parameters.get(i));
             }
 
-            ResultSet rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                int count = rs.getInt(1);
-                pstmt.close();
-                return count;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
             }
-
-            pstmt.close();
-            return 0;
-        } catch (SQLException e) {
-            System.err.println("Count query error: " + e.getMessage());
-            return 0;
-        }
+        });
     }
 
     /**
@@ -683,21 +2001,22 @@ public class DBManager {
      * @return İşlem başarılı ise true
      */
     public boolean truncateTable(String tableName) {
-        if (!ensureConnection()) return false;
-
         try {
-            Statement stmt = connection.createStatement();
-            if (databaseType == DatabaseType.SQLITE) {
-                // SQLite DELETE kullanır
-                stmt.executeUpdate("DELETE FROM " + tableName);
-                stmt.executeUpdate("DELETE FROM sqlite_sequence WHERE name='" + tableName + "'");
-            } else {
-                // MySQL TRUNCATE kullanır, foreign key kontrollerini geçici olarak devre dışı bırakır
-                stmt.executeUpdate("SET FOREIGN_KEY_CHECKS=0");
-                stmt.executeUpdate("TRUNCATE TABLE " + tableName);
-                stmt.executeUpdate("SET FOREIGN_KEY_CHECKS=1");
-            }
-            stmt.close();
+            withConnection(false, pooled -> {
+                Statement stmt = pooled.getConnection().createStatement();
+                if (databaseType == DatabaseType.SQLITE) {
+                    // SQLite DELETE kullanır
+                    stmt.executeUpdate("DELETE FROM " + tableName);
+                    stmt.executeUpdate("DELETE FROM sqlite_sequence WHERE name='" + tableName + "'");
+                } else {
+                    // MySQL TRUNCATE kullanır, foreign key kontrollerini geçici olarak devre dışı bırakır
+                    stmt.executeUpdate("SET FOREIGN_KEY_CHECKS=0");
+                    stmt.executeUpdate("TRUNCATE TABLE " + tableName);
+                    stmt.executeUpdate("SET FOREIGN_KEY_CHECKS=1");
+                }
+                stmt.close();
+                return null;
+            });
             System.out.println("Table truncated: " + tableName);
             return true;
         } catch (SQLException e) {
@@ -712,19 +2031,19 @@ public class DBManager {
      * @return Tablo varsa true
      */
     public boolean tableExists(String tableName) {
-        if (!ensureConnection()) return false;
-
         try {
-            DatabaseMetaData meta = connection.getMetaData();
-            ResultSet rs;
-            if (databaseType == DatabaseType.SQLITE) {
-                rs = meta.getTables(null, null, tableName, null);
-            } else {
-                rs = meta.getTables(null, databaseName, tableName, null);
-            }
-            boolean exists = rs.next();
-            rs.close();
-            return exists;
+            return withConnection(true, pooled -> {
+                DatabaseMetaData meta = pooled.getConnection().getMetaData();
+                ResultSet rs;
+                if (databaseType == DatabaseType.SQLITE) {
+                    rs = meta.getTables(null, null, tableName, null);
+                } else {
+                    rs = meta.getTables(null, databaseName, tableName, null);
+                }
+                boolean exists = rs.next();
+                rs.close();
+                return exists;
+            });
         } catch (SQLException e) {
             System.err.println("Check table exists error: " + e.getMessage());
             return false;
@@ -738,22 +2057,29 @@ public class DBManager {
      * @return Etkilenen satır sayısı, hata durumunda -1
      */
     public int executeUpdate(String sql, Object... params) {
-        if (!ensureConnection()) return -1;
-
         try {
-            PreparedStatement pstmt = connection.prepareStatement(sql);
-            for (int i = 0; i < params.length; i++) {
-                pstmt.setObject(i + 1, params[i]);
-            }
-            int result = pstmt.executeUpdate();
-            pstmt.close();
-            return result;
+            return executeUpdateChecked(sql, params);
         } catch (SQLException e) {
             System.err.println("Execute update error: " + e.getMessage());
             return -1;
         }
     }
 
+    /**
+     * Güncelleme sorgusunu çalıştırır, hata durumunda istisna fırlatır
+     * @return Etkilenen satır sayısı
+     * @throws SQLException Veritabanı hatasında
+     */
+    int executeUpdateChecked(String sql, Object... params) throws SQLException {
+        return withConnection(false, pooled -> {
+            PreparedStatement pstmt = pooled.prepare(sql);
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            return pstmt.executeUpdate();
+        });
+    }
+
     /**
      * Veri eklemek için InsertBuilder başlatır
      * @param tableName Tablo adı
@@ -763,32 +2089,128 @@ public class DBManager {
         return new InsertBuilder(this, tableName);
     }
 
+    /**
+     * Veri güncellemek için UpdateBuilder başlatır
+     * @param tableName Tablo adı
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder update(String tableName) {
+        return new UpdateBuilder(this, tableName);
+    }
+
+    /**
+     * Büyük veri dosyalarını tabloya yüklemek için BulkLoader başlatır
+     * @param tableName Tablo adı
+     * @return BulkLoader nesnesi
+     */
+    public BulkLoader load(String tableName) {
+        return new BulkLoader(this, tableName);
+    }
+
+    /**
+     * Koşula uyan satırları anahtar aralıklarına bölerek siler; her parça ayrı commit edilir
+     * @param tableName Tablo adı
+     * @param whereClause Silinecek satırların koşulu (örn. "created_at < ?")
+     * @param params Koşul parametreleri
+     * @return ChunkedOperation nesnesi (execute ile çalıştırılır)
+     */
+    public ChunkedOperation deleteWhere(String tableName, String whereClause, Object... params) {
+        return new ChunkedOperation(this, tableName, true, whereClause, params);
+    }
+
+    /**
+     * Koşula uyan satırları anahtar aralıklarına bölerek günceller; her parça ayrı commit edilir
+     * @param tableName Tablo adı
+     * @param whereClause Güncellenecek satırların koşulu
+     * @param params Koşul parametreleri
+     * @return ChunkedOperation nesnesi (set ile değerler ayarlanıp execute ile çalıştırılır)
+     */
+    public ChunkedOperation updateWhere(String tableName, String whereClause, Object... params) {
+        return new ChunkedOperation(this, tableName, false, whereClause, params);
+    }
+
+    /**
+     * Ekle ya da güncelle (upsert) için UpsertBuilder başlatır
+     * @param tableName Tablo adı
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder upsert(String tableName) {
+        return new UpsertBuilder(this, tableName);
+    }
+
     /**
      * Verileri tabloya ekler (asenkron)
      * @param tableName Tablo adı
+     * @param values Sütun adı - değer eşlemeleri
      * @param callback Sonuç callback'i
      */
-    void insertDataAsync(String tableName, Consumer<Long> callback) {
-        executorService.submit(() -> {
-            long id = insertData(tableName);
+    void insertDataAsync(String tableName, Map<String, Object> values, Consumer<Long> callback) {
+        if (!isGroupCommitEnabled()) {
+            runAsync(() -> insertData(tableName, values), callback);
+            return;
+        }
+        insertDataAsync(tableName, values).whenComplete((id, error) -> {
+            if (error != null) {
+                System.err.println("Data insertion error: " + error.getMessage());
+            }
             if (callback != null) {
-                callback.accept(id);
+                callback.accept(error == null ? id : -1L);
             }
         });
     }
 
+    /**
+     * Verileri tabloya ekler (asenkron)
+     * @return Eklenen satır ID'siyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    CompletableFuture<Long> insertDataAsync(String tableName, Map<String, Object> values) {
+        GroupCommitWriter writer = isGroupCommitEnabled() ? groupCommitWriter() : null;
+        if (writer != null) {
+            CompletableFuture<Long> future = writer.submit(tableName, values);
+            if (future != null) {
+                // Callback'ler yazıcı thread'ini bloklamamalı
+                return onCallbackExecutor(future, executorService);
+            }
+            // Kuyruk doluysa normal asenkron yola (ve reddetme politikasına) düşülür
+        }
+        return supplyAsync(() -> insertDataChecked(tableName, values));
+    }
+
+    /**
+     * Birden fazla kaydı asenkron ekler
+     * @return Yükleme istatistikleriyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    CompletableFuture<BatchStats> insertBatchAsync(String tableName, List<Map<String, Object>> valuesList,
+                                                   BatchSizer sizer, boolean returnKeys) {
+        return supplyAsync(() -> insertBatchChecked(tableName, valuesList, sizer, returnKeys));
+    }
+
+    /**
+     * Birden fazla kaydı anahtar sütunlarına göre asenkron günceller
+     * @return İstatistiklerle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    CompletableFuture<BatchStats> updateBatchAsync(String tableName, List<Map<String, Object>> valuesList,
+                                                   String keyColumn, BatchSizer sizer) {
+        return supplyAsync(() -> updateBatchChecked(tableName, valuesList, keyColumn, sizer));
+    }
+
+    /**
+     * Birden fazla kaydı asenkron upsert eder
+     * @return İstatistiklerle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    CompletableFuture<BatchStats> upsertBatchAsync(String tableName, List<Map<String, Object>> valuesList,
+                                                   List<String> conflictColumns, List<String> updateColumns,
+                                                   BatchSizer sizer) {
+        return supplyAsync(() -> upsertBatchChecked(tableName, valuesList, conflictColumns, updateColumns, sizer));
+    }
+
     /**
      * Tabloyu temizler (asenkron)
      * @param tableName Tablo adı
      * @param callback Sonuç callback'i
      */
     public void truncateTableAsync(String tableName, Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = truncateTable(tableName);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> truncateTable(tableName), callback);
     }
 
     /**
@@ -797,12 +2219,7 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     public void tableExistsAsync(String tableName, Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = tableExists(tableName);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> tableExists(tableName), callback);
     }
 
     /**
@@ -812,42 +2229,64 @@ public class DBManager {
      * @param params Sorgu parametreleri
      */
     public void executeUpdateAsync(String sql, Consumer<Integer> callback, Object... params) {
-        executorService.submit(() -> {
-            int result = executeUpdate(sql, params);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> executeUpdate(sql, params), callback);
+    }
+
+    /**
+     * Veritabanı sorgu işlemini gerçekleştirir (asenkron)
+     * @param sql SQL sorgusu
+     * @param params Sorgu parametreleri
+     * @return Etkilenen satır sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Integer> executeUpdateAsync(String sql, Object... params) {
+        return supplyAsync(() -> executeUpdateChecked(sql, params));
     }
 
     /**
      * Tabloyu oluşturur (asenkron)
      * @param tableName Tablo adı
+     * @param columns Sütun tanımları
      * @param dropIfExists Varsa silip yeniden oluşturmak için
      * @param callback Sonuç callback'i
      */
-    void createTableAsync(String tableName, boolean dropIfExists, Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = createTable(tableName, dropIfExists);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+    void createTableAsync(String tableName, Collection<ColumnDefinition> columns, boolean dropIfExists, Consumer<Boolean> callback) {
+        runAsync(() -> createTable(tableName, columns, dropIfExists), callback);
+    }
+
+    /**
+     * Tabloyu oluşturur (asenkron)
+     * @return Sonuç future'ı, hata durumunda SQLException ile tamamlanır
+     */
+    CompletableFuture<Boolean> createTableAsync(String tableName, Collection<ColumnDefinition> columns, boolean dropIfExists) {
+        return supplyAsync(() -> createTableChecked(tableName, columns, dropIfExists));
     }
 
     /**
-     * QueryBuilder için asenkron ilk sonuç getirme
+     * QueryBuilder için asenkron ilk sonuç getirme; callback sorguyu çalıştıran thread'de çağrılır
      * @param tableName Tablo adı
      * @param queryBuilder QueryBuilder nesnesi
      * @param callback Sonuç callback'i
      */
     void selectByQueryAsync(String tableName, QueryBuilder queryBuilder, Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = selectByQuery(tableName, queryBuilder, true);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runRowAsync(() -> selectByQuery(tableName, queryBuilder, true), callback);
+    }
+
+    /**
+     * QueryBuilder için asenkron ilk satırı getirme
+     * @param tableName Tablo adı
+     * @param queryBuilder QueryBuilder nesnesi
+     * @param callback Sonuç callback'i (bulunamazsa null)
+     */
+    void selectFirstByQueryAsync(String tableName, QueryBuilder queryBuilder, Consumer<QueryResult> callback) {
+        runAsync(() -> selectFirstByQuery(tableName, queryBuilder), callback);
+    }
+
+    /**
+     * QueryBuilder için asenkron ilk satırı getirme
+     * @return Satırla (bulunamazsa null) tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    CompletableFuture<QueryResult> selectFirstByQueryAsync(String tableName, QueryBuilder queryBuilder) {
+        return supplyAsync(() -> selectFirstByQueryChecked(tableName, queryBuilder));
     }
 
     /**
@@ -857,12 +2296,15 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     void selectMultipleByQueryAsync(String tableName, QueryBuilder queryBuilder, Consumer<List<Map<String, Object>>> callback) {
-        executorService.submit(() -> {
-            List<Map<String, Object>> result = selectMultipleByQuery(tableName, queryBuilder);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> selectMultipleByQuery(tableName, queryBuilder), callback);
+    }
+
+    /**
+     * QueryBuilder için asenkron çoklu sonuç getirme
+     * @return Sonuç listesiyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    CompletableFuture<List<Map<String, Object>>> selectMultipleByQueryAsync(String tableName, QueryBuilder queryBuilder) {
+        return supplyAsync(() -> selectMultipleByQueryChecked(tableName, queryBuilder));
     }
 
     /**
@@ -872,54 +2314,87 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     void countByQueryAsync(String tableName, QueryBuilder queryBuilder, Consumer<Integer> callback) {
-        executorService.submit(() -> {
-            int result = countByQuery(tableName, queryBuilder);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> countByQuery(tableName, queryBuilder), callback);
+    }
+
+    /**
+     * QueryBuilder için asenkron sayım
+     * @return Sonuç sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    CompletableFuture<Integer> countByQueryAsync(String tableName, QueryBuilder queryBuilder) {
+        return supplyAsync(() -> countByQueryChecked(tableName, queryBuilder));
+    }
+
+    /**
+     * Tabloyu id sırasıyla anahtar bazlı sayfalar. OFFSET kullanmadığı için her sayfanın maliyeti aynıdır.
+     * Farklı bir anahtar veya koşul için {@link QueryBuilder#keyset(String...)} ve {@link QueryBuilder#page(String, int)}.
+     * @param tableName Tablo adı
+     * @param token Önceki sayfanın {@link Page#getNextToken()} değeri, ilk sayfa için null
+     * @param limit Sayfadaki en fazla satır sayısı
+     * @return Sayfa, hata durumunda null
+     */
+    public Page paginateByKey(String tableName, String token, int limit) {
+        return query(tableName).page(token, limit);
+    }
+
+    /**
+     * Tabloyu id sırasıyla anahtar bazlı ve asenkron sayfalar
+     * @param tableName Tablo adı
+     * @param token Önceki sayfanın token'ı, ilk sayfa için null
+     * @param limit Sayfadaki en fazla satır sayısı
+     * @return Sayfayla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Page> paginateByKeyAsync(String tableName, String token, int limit) {
+        return query(tableName).pageAsync(token, limit);
+    }
+
+    /**
+     * Tabloyu id sırasıyla sayfa sayfa dolaşan, sonraki sayfaları executor üzerinde önceden getiren bir iterator döndürür
+     * @param tableName Tablo adı
+     * @param pageSize Sayfadaki en fazla satır sayısı
+     * @return Sayfa iterator'ı
+     */
+    public PageIterator scan(String tableName, int pageSize) {
+        return query(tableName).scan(pageSize);
     }
 
     /**
-     * Belirlenen aralıktaki verileri getirir (sayfalama için)
+     * Belirlenen aralıktaki verileri getirir (sayfalama için).
+     * Ofset kadar satır okunup atıldığı için derin sayfalarda {@link #paginateByKey(String, String, int)} tercih edilmelidir.
      * @param tableName Tablo adı
      * @param offset Başlangıç indeksi
      * @param limit Maksimum kayıt sayısı
      * @return Kayıt listesi
      */
     public List<Map<String, Object>> paginate(String tableName, int offset, int limit) {
-        if (!ensureConnection()) return new ArrayList<>();
-        
         try {
-            String sql = "SELECT * FROM " + tableName + " LIMIT " + limit + " OFFSET " + offset;
-            
-            Statement stmt = connection.createStatement();
-            ResultSet rs = stmt.executeQuery(sql);
-            
-            List<Map<String, Object>> resultList = new ArrayList<>();
-            ResultSetMetaData metaData = rs.getMetaData();
-            int columnCount = metaData.getColumnCount();
-            
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
-                
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = metaData.getColumnName(i);
-                    Object value = rs.getObject(i);
-                    row.put(columnName, value);
-                }
-                
-                resultList.add(row);
-            }
-            
-            stmt.close();
-            return resultList;
+            return paginateChecked(tableName, offset, limit);
         } catch (SQLException e) {
             System.err.println("Pagination error: " + e.getMessage());
             return new ArrayList<>();
         }
     }
 
+    /**
+     * Sayfalama sorgusunu çalıştırır, hata durumunda istisna fırlatır
+     * @return Kayıt listesi
+     * @throws SQLException Veritabanı hatasında
+     */
+    List<Map<String, Object>> paginateChecked(String tableName, int offset, int limit) throws SQLException {
+        return withConnection(true, pooled -> {
+            // Limit ve offset parametre olarak bağlanır, böylece tüm sayfalar aynı önbellekteki statement'ı kullanır
+            String sql = "SELECT * FROM " + tableName + " LIMIT ? OFFSET ?";
+        
+            PreparedStatement pstmt = pooled.prepare(sql);
+            pstmt.setInt(1, limit);
+            pstmt.setInt(2, offset);
+        
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return ResultRow.readAll(rs);
+            }
+        });
+    }
+
     /**
      * Belirlenen aralıktaki verileri asenkron getirir
      * @param tableName Tablo adı
@@ -928,12 +2403,18 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     public void paginateAsync(String tableName, int offset, int limit, Consumer<List<Map<String, Object>>> callback) {
-        executorService.submit(() -> {
-            List<Map<String, Object>> result = paginate(tableName, offset, limit);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> paginate(tableName, offset, limit), callback);
+    }
+
+    /**
+     * Belirlenen aralıktaki verileri asenkron getirir
+     * @param tableName Tablo adı
+     * @param offset Başlangıç indeksi
+     * @param limit Maksimum kayıt sayısı
+     * @return Kayıt listesiyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<List<Map<String, Object>>> paginateAsync(String tableName, int offset, int limit) {
+        return supplyAsync(() -> paginateChecked(tableName, offset, limit));
     }
 
     /**
@@ -943,41 +2424,215 @@ public class DBManager {
      * @return Sorgu sonuçları
      */
     public List<Map<String, Object>> executeQuery(String sql, Object... params) {
-        if (!ensureConnection()) return new ArrayList<>();
-        
         try {
-            PreparedStatement pstmt = connection.prepareStatement(sql);
-            
+            return executeQueryChecked(sql, params);
+        } catch (SQLException e) {
+            System.err.println("Execute query error: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Ham SQL sorgusunu çalıştırır, hata durumunda istisna fırlatır
+     * @return Sorgu sonuçları
+     * @throws SQLException Veritabanı hatasında
+     */
+    List<Map<String, Object>> executeQueryChecked(String sql, Object... params) throws SQLException {
+        return withConnection(true, pooled -> {
+            PreparedStatement pstmt = pooled.prepare(sql);
+        
             for (int i = 0; i < params.length; i++) {
                 pstmt.setObject(i + 1, params[i]);
             }
-            
-            ResultSet rs = pstmt.executeQuery();
-            
-            List<Map<String, Object>> resultList = new ArrayList<>();
-            ResultSetMetaData metaData = rs.getMetaData();
-            int columnCount = metaData.getColumnCount();
-            
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
-                
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = metaData.getColumnName(i);
-                    Object value = rs.getObject(i);
-                    row.put(columnName, value);
-                }
-                
-                resultList.add(row);
+        
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return ResultRow.readAll(rs);
             }
-            
-            pstmt.close();
-            return resultList;
+        });
+    }
+
+    /**
+     * Ham SQL sorgusunu asenkron çalıştırır
+     * @param sql SQL sorgusu
+     * @param params Sorgu parametreleri
+     * @return Sorgu sonuçlarıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<List<Map<String, Object>>> executeQueryAsync(String sql, Object... params) {
+        return supplyAsync(() -> executeQueryChecked(sql, params));
+    }
+
+    /**
+     * Ham SQL sorgusunu çalıştırır ve satırları verilen record veya POJO sınıfına dönüştürür.
+     * Eşleme sınıf ve sütun listesi başına bir kez kurulur; satırlar map oluşturmadan, sütun sırasıyla okunur.
+     * Sütunlar record bileşenlerine veya alanlara adıyla eşlenir (user_name = userName), eşleşmeyenler atlanır.
+     * @param sql SQL sorgusu
+     * @param type Hedef sınıf (record ya da parametresiz constructor'ı olan sınıf)
+     * @param params Sorgu parametreleri
+     * @return Nesne listesi, hata durumunda boş liste
+     */
+    public <T> List<T> executeQuery(String sql, Class<T> type, Object... params) {
+        try {
+            return executeQueryChecked(sql, type, params);
         } catch (SQLException e) {
             System.err.println("Execute query error: " + e.getMessage());
             return new ArrayList<>();
         }
     }
 
+    /**
+     * Ham SQL sorgusunu çalıştırıp satırları sınıfa dönüştürür, hata durumunda istisna fırlatır
+     * @return Nesne listesi
+     * @throws SQLException Veritabanı hatasında veya sınıf eşlenemezse
+     */
+    <T> List<T> executeQueryChecked(String sql, Class<T> type, Object... params) throws SQLException {
+        return withConnection(true, pooled -> {
+            PreparedStatement pstmt = pooled.prepare(sql);
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMapper.mapAll(type, rs);
+            }
+        });
+    }
+
+    /**
+     * Ham SQL sorgusunu asenkron çalıştırır ve satırları sınıfa dönüştürür
+     * @param sql SQL sorgusu
+     * @param type Hedef sınıf
+     * @param params Sorgu parametreleri
+     * @return Nesne listesiyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public <T> CompletableFuture<List<T>> executeQueryAsync(String sql, Class<T> type, Object... params) {
+        return supplyAsync(() -> executeQueryChecked(sql, type, params));
+    }
+
+    /**
+     * Ham SQL sorgusunu çalıştırır ve sonucu sütun bazlı okur. Sayısal sütunlar kutulanmadan
+     * long[] / double[] dizilerine okunur; büyük sayısal taramalar için uygundur.
+     * @param sql SQL sorgusu
+     * @param params Sorgu parametreleri
+     * @return Sütun bazlı sonuç, hata durumunda null
+     */
+    public ColumnarResult fetchColumns(String sql, Object... params) {
+        try {
+            return fetchColumnsChecked(sql, params);
+        } catch (SQLException e) {
+            System.err.println("Columnar query error: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Ham SQL sorgusunu sütun bazlı okur, hata durumunda istisna fırlatır
+     * @return Sütun bazlı sonuç
+     * @throws SQLException Veritabanı hatasında
+     */
+    ColumnarResult fetchColumnsChecked(String sql, Object... params) throws SQLException {
+        return withConnection(true, pooled -> {
+            PreparedStatement pstmt = pooled.prepare(sql);
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return ColumnarResult.read(rs);
+            }
+        });
+    }
+
+    /**
+     * Ham SQL sorgusunu asenkron olarak sütun bazlı okur
+     * @param sql SQL sorgusu
+     * @param params Sorgu parametreleri
+     * @return Sütun bazlı sonuçla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<ColumnarResult> fetchColumnsAsync(String sql, Object... params) {
+        return supplyAsync(() -> fetchColumnsChecked(sql, params));
+    }
+
+    /**
+     * Ham SQL sorgusunu satırları bellekte biriktirmeden, istendikçe okuyan bir akış olarak çalıştırır.
+     * Akış bir bağlantıyı kapatılana kadar tutar; try-with-resources ile kullanılmalıdır
+     * (sonuna kadar okunan akış kendiliğinden kapanır).
+     * @param sql SQL sorgusu
+     * @param params Sorgu parametreleri
+     * @return Satır akışı, hata durumunda boş akış
+     */
+    public Stream<QueryResult> streamQuery(String sql, Object... params) {
+        return streamQuery(0, sql, params);
+    }
+
+    /**
+     * Ham SQL sorgusunu verilen fetch size ile akış olarak çalıştırır.
+     * 0 veritabanının varsayılanını seçer: MySQL'de Integer.MIN_VALUE (satır satır streaming),
+     * SQLite'ta 1000. MySQL'de pozitif değerler sadece useCursorFetch=true ile geçerlidir.
+     * MySQL streaming modunda akış açıkken aynı bağlantıda başka sorgu çalıştırılamaz; transaction içinde
+     * akışı kapatmadan başka işlem yapılmamalıdır. Havuz boyutu 1 olan SQLite'ta (WAL kapalıyken) akış
+     * açıkken başka bir thread'in sorguları bağlantı bekler.
+     * @param fetchSize Sürücüden tek seferde çekilecek satır sayısı
+     * @param sql SQL sorgusu
+     * @param params Sorgu parametreleri
+     * @return Satır akışı, hata durumunda boş akış
+     */
+    public Stream<QueryResult> streamQuery(int fetchSize, String sql, Object... params) {
+        try {
+            return streamQueryChecked(fetchSize, sql, params);
+        } catch (SQLException e) {
+            System.err.println("Stream query error: " + e.getMessage());
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Ham SQL sorgusunu akış olarak çalıştırır, sorgu açılamazsa istisna fırlatır.
+     * Okuma sırasındaki hatalar IllegalStateException olarak akıştan fırlatılır.
+     * @throws SQLException Bağlantı yoksa veya sorgu çalıştırılamazsa
+     */
+    Stream<QueryResult> streamQueryChecked(int fetchSize, String sql, Object... params) throws SQLException {
+        Transaction transaction = currentTransaction.get();
+        if (transaction == null && !ensureConnection()) {
+            throw new SQLException("Database connection is not available: " + databaseName);
+        }
+        // Transaction bağlantısı transaction'a aittir, akış kapanınca geri verilmez
+        PooledConnection pooled = transaction != null ? transaction.getPooledConnection() : borrow(true);
+        Runnable releaser = transaction != null ? null : () -> release(pooled);
+
+        // Önbellekteki statement kullanılmaz: aynı SQL'i çalıştıran başka bir sorgu açık ResultSet'i kapatırdı
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = pooled.getConnection().prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(resolveFetchSize(fetchSize));
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            return new ResultStream(pstmt, pstmt.executeQuery(), releaser).stream();
+        } catch (SQLException | RuntimeException e) {
+            if (pstmt != null) {
+                try {
+                    pstmt.close();
+                } catch (SQLException closeError) {
+                    e.addSuppressed(closeError);
+                }
+            }
+            if (releaser != null) {
+                releaser.run();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Akış sorguları için fetch size değerini belirler
+     * @param requested İstenen değer, 0 ise varsayılan
+     * @return Sürücüye verilecek değer
+     */
+    private int resolveFetchSize(int requested) {
+        if (databaseType == DatabaseType.MYSQL) {
+            return requested == 0 ? Integer.MIN_VALUE : requested;
+        }
+        return requested > 0 ? requested : DEFAULT_FETCH_SIZE;
+    }
+
     /**
      * Raw SQL sorgusunu asenkron çalıştırır ve sonuçları QueryResult listesi olarak döndürür
      * @param sql SQL sorgusu
@@ -985,12 +2640,7 @@ public class DBManager {
      * @param params Sorgu parametreleri
      */
     public void executeQueryResultsAsync(String sql, Consumer<List<QueryResult>> callback, Object... params) {
-        executorService.submit(() -> {
-            List<QueryResult> result = executeQueryResults(sql, params);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> executeQueryResults(sql, params), callback);
     }
 
     /**
@@ -1001,12 +2651,7 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     public void paginateResultsAsync(String tableName, int offset, int limit, Consumer<List<QueryResult>> callback) {
-        executorService.submit(() -> {
-            List<QueryResult> result = paginateResults(tableName, offset, limit);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> paginateResults(tableName, offset, limit), callback);
     }
 
     /**
@@ -1015,55 +2660,57 @@ public class DBManager {
      * @return Sütun bilgileri listesi
      */
     public List<Map<String, Object>> getTableStructure(String tableName) {
-        if (!ensureConnection()) return new ArrayList<>();
-        
         List<Map<String, Object>> columns = new ArrayList<>();
-        
+
         try {
-            if (databaseType == DatabaseType.SQLITE) {
-                // SQLite için PRAGMA kullanımı
-                String sql = "PRAGMA table_info(" + tableName + ")";
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql);
-                
-                while (rs.next()) {
-                    Map<String, Object> column = new HashMap<>();
-                    column.put("name", rs.getString("name"));
-                    column.put("type", rs.getString("type"));
-                    column.put("notnull", rs.getBoolean("notnull"));
-                    column.put("default_value", rs.getString("dflt_value"));
-                    column.put("primary_key", rs.getBoolean("pk"));
-                    columns.add(column);
-                }
-                
-                stmt.close();
-            } else {
-                // MySQL için INFORMATION_SCHEMA kullanımı
-                String sql = "SELECT COLUMN_NAME AS name, DATA_TYPE AS type, " +
-                        "IS_NULLABLE AS nullable, COLUMN_DEFAULT AS default_value, " +
-                        "COLUMN_KEY AS key_type " +
-                        "FROM INFORMATION_SCHEMA.COLUMNS " +
-                        "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
-                
-                PreparedStatement pstmt = connection.prepareStatement(sql);
-                pstmt.setString(1, databaseName);
-                pstmt.setString(2, tableName);
-                
-                ResultSet rs = pstmt.executeQuery();
-                
-                while (rs.next()) {
-                    Map<String, Object> column = new HashMap<>();
-                    column.put("name", rs.getString("name"));
-                    column.put("type", rs.getString("type"));
-                    column.put("nullable", rs.getString("nullable").equals("YES"));
-                    column.put("default_value", rs.getString("default_value"));
-                    column.put("primary_key", rs.getString("key_type").equals("PRI"));
-                    columns.add(column);
+            withConnection(true, pooled -> {
+                Connection connection = pooled.getConnection();
+
+                if (databaseType == DatabaseType.SQLITE) {
+                    // SQLite için PRAGMA kullanımı
+                    String sql = "PRAGMA table_info(" + tableName + ")";
+                    Statement stmt = connection.createStatement();
+                    ResultSet rs = stmt.executeQuery(sql);
+
+                    while (rs.next()) {
+                        Map<String, Object> column = new HashMap<>();
+                        column.put("name", rs.getString("name"));
+                        column.put("type", rs.getString("type"));
+                        column.put("notnull", rs.getBoolean("notnull"));
+                        column.put("default_value", rs.getString("dflt_value"));
+                        column.put("primary_key", rs.getBoolean("pk"));
+                        columns.add(column);
+                    }
+
+                    stmt.close();
+                } else {
+                    // MySQL için INFORMATION_SCHEMA kullanımı
+                    String sql = "SELECT COLUMN_NAME AS name, DATA_TYPE AS type, " +
+                            "IS_NULLABLE AS nullable, COLUMN_DEFAULT AS default_value, " +
+                            "COLUMN_KEY AS key_type " +
+                            "FROM INFORMATION_SCHEMA.COLUMNS " +
+                            "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+
+                    PreparedStatement pstmt = connection.prepareStatement(sql);
+                    pstmt.setString(1, databaseName);
+                    pstmt.setString(2, tableName);
+
+                    ResultSet rs = pstmt.executeQuery();
+
+                    while (rs.next()) {
+                        Map<String, Object> column = new HashMap<>();
+                        column.put("name", rs.getString("name"));
+                        column.put("type", rs.getString("type"));
+                        column.put("nullable", rs.getString("nullable").equals("YES"));
+                        column.put("default_value", rs.getString("default_value"));
+                        column.put("primary_key", rs.getString("key_type").equals("PRI"));
+                        columns.add(column);
+                    }
+
+                    pstmt.close();
                 }
-                
-                pstmt.close();
-            }
-            
+                return null;
+            });
             return columns;
         } catch (SQLException e) {
             System.err.println("Get table structure error: " + e.getMessage());
@@ -1077,28 +2724,22 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     public void getTableStructureAsync(String tableName, Consumer<List<Map<String, Object>>> callback) {
-        executorService.submit(() -> {
-            List<Map<String, Object>> result = getTableStructure(tableName);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> getTableStructure(tableName), callback);
     }
 
     /**
-     * Veri eklemek için değerler haritasını döndürür 
-     * (InsertBuilder için gerekli)
+     * Bu thread'de select() veya first() ile okunan son satırın kopyasını döndürür
      * @return Values haritası
      */
     public Map<String, Object> getValues() {
-        return new HashMap<>(values);
+        return new HashMap<>(currentRow.get());
     }
 
     /**
-     * Veri eklemek için değerler haritasını temizler
+     * Bu thread'de okunan son satırı temizler
      */
     public void clearValues() {
-        values.clear();
+        currentRow.remove();
     }
 
     /**
@@ -1106,35 +2747,27 @@ public class DBManager {
      * @return Tablo listesi
      */
     public List<String> getTables() {
-        if (!ensureConnection()) return new ArrayList<>();
-        
         List<String> tables = new ArrayList<>();
-        
+
         try {
-            if (databaseType == DatabaseType.SQLITE) {
-                // SQLite için sorgu
-                String sql = "SELECT name FROM sqlite_master WHERE type='table' AND name NOT LIKE 'sqlite_%'";
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql);
-                
-                while (rs.next()) {
-                    tables.add(rs.getString("name"));
-                }
-                
-                stmt.close();
-            } else {
-                // MySQL için sorgu
-                String sql = "SHOW TABLES";
-                Statement stmt = connection.createStatement();
-                ResultSet rs = stmt.executeQuery(sql);
-                
-                while (rs.next()) {
-                    tables.add(rs.getString(1));
+            withConnection(true, pooled -> {
+                Statement stmt = pooled.getConnection().createStatement();
+                if (databaseType == DatabaseType.SQLITE) {
+                    // SQLite için sorgu
+                    ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type='table' AND name NOT LIKE 'sqlite_%'");
+                    while (rs.next()) {
+                        tables.add(rs.getString("name"));
+                    }
+                } else {
+                    // MySQL için sorgu
+                    ResultSet rs = stmt.executeQuery("SHOW TABLES");
+                    while (rs.next()) {
+                        tables.add(rs.getString(1));
+                    }
                 }
-                
                 stmt.close();
-            }
-            
+                return null;
+            });
             return tables;
         } catch (SQLException e) {
             System.err.println("Get tables error: " + e.getMessage());
@@ -1147,12 +2780,7 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     public void getTablesAsync(Consumer<List<String>> callback) {
-        executorService.submit(() -> {
-            List<String> result = getTables();
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> getTables(), callback);
     }
 
     /**
@@ -1164,32 +2792,32 @@ public class DBManager {
      * @return İşlem başarılı ise true
      */
     public boolean createIndex(String tableName, String indexName, String[] columnNames, boolean unique) {
-        if (!ensureConnection()) return false;
-        
-        try {
-            StringBuilder sql = new StringBuilder();
-            sql.append("CREATE ");
-            
-            if (unique) {
-                sql.append("UNIQUE ");
-            }
-            
-            sql.append("INDEX IF NOT EXISTS ").append(indexName)
-               .append(" ON ").append(tableName).append(" (");
-            
-            for (int i = 0; i < columnNames.length; i++) {
-                if (i > 0) {
-                    sql.append(", ");
-                }
-                sql.append(columnNames[i]);
+        StringBuilder sql = new StringBuilder();
+        sql.append("CREATE ");
+
+        if (unique) {
+            sql.append("UNIQUE ");
+        }
+
+        sql.append("INDEX IF NOT EXISTS ").append(indexName)
+           .append(" ON ").append(tableName).append(" (");
+
+        for (int i = 0; i < columnNames.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
             }
-            
-            sql.append(")");
-            
-            Statement stmt = connection.createStatement();
-            stmt.execute(sql.toString());
-            stmt.close();
-            
+            sql.append(columnNames[i]);
+        }
+
+        sql.append(")");
+
+        try {
+            withConnection(false, pooled -> {
+                Statement stmt = pooled.getConnection().createStatement();
+                stmt.execute(sql.toString());
+                stmt.close();
+                return null;
+            });
             return true;
         } catch (SQLException e) {
             System.err.println("Create index error: " + e.getMessage());
@@ -1206,12 +2834,7 @@ public class DBManager {
      * @param callback Sonuç callback'i
      */
     public void createIndexAsync(String tableName, String indexName, String[] columnNames, boolean unique, Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = createIndex(tableName, indexName, columnNames, unique);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> createIndex(tableName, indexName, columnNames, unique), callback);
     }
 
     /**
@@ -1225,25 +2848,22 @@ public class DBManager {
      */
     public boolean addForeignKey(String table, String column, String referenceTable, 
                                String referenceColumn, String onDeleteAction) {
-        if (!ensureConnection()) return false;
-        
         // MySQL'de ALTER TABLE kullanmalıyız
         if (databaseType == DatabaseType.MYSQL) {
+            String constraintName = "fk_" + table + "_" + column;
+            String sql = "ALTER TABLE " + table +
+                        " ADD CONSTRAINT " + constraintName +
+                        " FOREIGN KEY (" + column + ") REFERENCES " +
+                        referenceTable + "(" + referenceColumn + ")" +
+                        (onDeleteAction != null && !onDeleteAction.isEmpty() ? " ON DELETE " + onDeleteAction : "");
+
             try {
-                String constraintName = "fk_" + table + "_" + column;
-                String sql = "ALTER TABLE " + table + 
-                            " ADD CONSTRAINT " + constraintName + 
-                            " FOREIGN KEY (" + column + ") REFERENCES " + 
-                            referenceTable + "(" + referenceColumn + ")";
-                
-                if (onDeleteAction != null && !onDeleteAction.isEmpty()) {
-                    sql += " ON DELETE " + onDeleteAction;
-                }
-                
-                Statement stmt = connection.createStatement();
-                stmt.execute(sql);
-                stmt.close();
-                
+                withConnection(false, pooled -> {
+                    Statement stmt = pooled.getConnection().createStatement();
+                    stmt.execute(sql);
+                    stmt.close();
+                    return null;
+                });
                 return true;
             } catch (SQLException e) {
                 System.err.println("Add foreign key error: " + e.getMessage());
@@ -1267,12 +2887,7 @@ public class DBManager {
      */
     public void addForeignKeyAsync(String table, String column, String referenceTable, 
                                   String referenceColumn, String onDeleteAction, Consumer<Boolean> callback) {
-        executorService.submit(() -> {
-            boolean result = addForeignKey(table, column, referenceTable, referenceColumn, onDeleteAction);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        runAsync(() -> addForeignKey(table, column, referenceTable, referenceColumn, onDeleteAction), callback);
     }
 
     /**
@@ -0,0 +1,221 @@
+package org.exclover;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Toplu yükleme sırasında tablonun ikincil indekslerini kaldırıp yükleme sonunda yeniden oluşturur.
+ * Satır başına indeks güncellemesi yerine indeksler tek seferde, sıralı veriden kurulur.
+ * UNIQUE indeksler kısıt görevi gördüğü için kaldırılmaz.
+ */
+class DeferredIndexes {
+
+    /**
+     * Kaldırılan bir indeksin yeniden oluşturma bilgisi
+     */
+    private static class IndexDefinition {
+        final String name;
+        final String createSql;
+        // MySQL'de ALTER TABLE ... ADD içinde kullanılacak ifade (SQLite'ta null)
+        final String alterClause;
+        final boolean combinable;
+
+        IndexDefinition(String name, String createSql, String alterClause, boolean combinable) {
+            this.name = name;
+            this.createSql = createSql;
+            this.alterClause = alterClause;
+            this.combinable = combinable;
+        }
+    }
+
+    private final DBManager database;
+    private final String tableName;
+    private final List<IndexDefinition> dropped = new ArrayList<>();
+
+    private DeferredIndexes(DBManager database, String tableName) {
+        this.database = database;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Tablonun UNIQUE olmayan ikincil indekslerini kaydeder ve kaldırır.
+     * Kaldırılamayan indeksler (örn. MySQL'de foreign key'in kullandığı) yerinde bırakılır.
+     * @param database Database nesnesi
+     * @param tableName Tablo adı
+     * @return Kaldırılan indeksleri tutan nesne
+     * @throws SQLException İndeks bilgisi okunamazsa
+     */
+    static DeferredIndexes drop(DBManager database, String tableName) throws SQLException {
+        DeferredIndexes indexes = new DeferredIndexes(database, tableName);
+        List<IndexDefinition> definitions = database.getDatabaseType() == DBManager.DatabaseType.MYSQL
+                ? indexes.readMySqlIndexes()
+                : indexes.readSqliteIndexes();
+
+        for (IndexDefinition index : definitions) {
+            String dropSql = database.getDatabaseType() == DBManager.DatabaseType.MYSQL
+                    ? "DROP INDEX " + index.name + " ON " + tableName
+                    : "DROP INDEX " + index.name;
+            try {
+                indexes.execute(dropSql);
+                indexes.dropped.add(index);
+            } catch (SQLException e) {
+                System.err.println("Index kept during load: " + index.name + " (" + e.getMessage() + ")");
+            }
+        }
+        System.out.println("Deferred " + indexes.dropped.size() + " indexes on table: " + tableName);
+        return indexes;
+    }
+
+    /**
+     * Kaldırılan indeksleri yeniden oluşturur. Yükleme başarısız olsa da çağrılır; oluşturulamayan
+     * indekslerin tanımı elle çalıştırılabilmesi için hata çıktısına yazılır.
+     * MySQL'de indeksler tek bir ALTER TABLE ile eklenir: sunucu tabloyu bir kez tarar ve indeksleri
+     * paralel DDL thread'leriyle kurar (aynı tabloda eşzamanlı CREATE INDEX'ler metadata kilidinde sıralanır).
+     * @return Yeniden oluşturulamayan indekslerin adları, hepsi oluşturulduysa boş liste
+     */
+    List<String> restore() {
+        List<String> failed = new ArrayList<>();
+        if (dropped.isEmpty()) {
+            return failed;
+        }
+        long start = System.nanoTime();
+        List<IndexDefinition> pending = new ArrayList<>(dropped);
+
+        if (database.getDatabaseType() == DBManager.DatabaseType.MYSQL) {
+            List<IndexDefinition> combined = new ArrayList<>();
+            for (IndexDefinition index : pending) {
+                if (index.combinable) {
+                    combined.add(index);
+                }
+            }
+            if (combined.size() > 1) {
+                StringBuilder sql = new StringBuilder("ALTER TABLE ").append(tableName).append(" ");
+                for (int i = 0; i < combined.size(); i++) {
+                    if (i > 0) {
+                        sql.append(", ");
+                    }
+                    sql.append("ADD ").append(combined.get(i).alterClause);
+                }
+                try {
+                    execute(sql.toString());
+                    pending.removeAll(combined);
+                } catch (SQLException e) {
+                    // Tek tek denenir, böylece sorunlu indeks diğerlerini engellemez
+                    System.err.println("Combined index rebuild failed: " + e.getMessage());
+                }
+            }
+        }
+
+        for (IndexDefinition index : pending) {
+            try {
+                execute(index.createSql);
+            } catch (SQLException e) {
+                failed.add(index.name);
+                System.err.println("Index rebuild failed: " + index.name + " (" + e.getMessage() + "), definition: " +
+                        index.createSql);
+            }
+        }
+        System.out.println("Rebuilt " + (dropped.size() - failed.size()) + " indexes on table: " + tableName + " in " +
+                (System.nanoTime() - start) / 1_000_000 + "ms");
+        dropped.clear();
+        return failed;
+    }
+
+    private List<IndexDefinition> readSqliteIndexes() throws SQLException {
+        // sql sütunu NULL olanlar PRIMARY KEY / UNIQUE kısıtlarının otomatik indeksleridir
+        List<Object[]> rows = query(
+                "SELECT name, sql FROM sqlite_master WHERE type = 'index' AND tbl_name = ? AND sql IS NOT NULL",
+                tableName);
+        List<IndexDefinition> definitions = new ArrayList<>();
+        for (Object[] row : rows) {
+            String sql = String.valueOf(row[1]);
+            if (sql.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ").startsWith("CREATE UNIQUE")) {
+                continue;
+            }
+            definitions.add(new IndexDefinition(String.valueOf(row[0]), sql, null, false));
+        }
+        return definitions;
+    }
+
+    private List<IndexDefinition> readMySqlIndexes() throws SQLException {
+        List<Object[]> rows = query(
+                "SELECT INDEX_NAME, COLUMN_NAME, SUB_PART, INDEX_TYPE FROM INFORMATION_SCHEMA.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND NON_UNIQUE = 1 " +
+                        "ORDER BY INDEX_NAME, SEQ_IN_INDEX",
+                tableName);
+
+        Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+        Map<String, String> typeByIndex = new LinkedHashMap<>();
+        List<String> skipped = new ArrayList<>();
+        for (Object[] row : rows) {
+            String name = String.valueOf(row[0]);
+            Object column = row[1];
+            if (column == null) {
+                // Fonksiyonel indeksler yeniden kurulamayacağı için yerinde bırakılır
+                skipped.add(name);
+                continue;
+            }
+            String part = row[2] != null ? column + "(" + row[2] + ")" : String.valueOf(column);
+            columnsByIndex.computeIfAbsent(name, key -> new ArrayList<>()).add(part);
+            typeByIndex.put(name, String.valueOf(row[3]));
+        }
+
+        List<IndexDefinition> definitions = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : columnsByIndex.entrySet()) {
+            String name = entry.getKey();
+            if (skipped.contains(name)) {
+                continue;
+            }
+            String type = typeByIndex.get(name);
+            String prefix = "FULLTEXT".equals(type) ? "FULLTEXT " : "SPATIAL".equals(type) ? "SPATIAL " : "";
+            String columns = String.join(", ", entry.getValue());
+            // InnoDB tek ALTER'da birden fazla FULLTEXT indeksi eklemez
+            definitions.add(new IndexDefinition(name,
+                    "CREATE " + prefix + "INDEX " + name + " ON " + tableName + " (" + columns + ")",
+                    prefix + "INDEX " + name + " (" + columns + ")",
+                    prefix.isEmpty()));
+        }
+        return definitions;
+    }
+
+    /**
+     * Sorgu sonucunu sütun sırasıyla okur (MySQL takma adları sütun adı olarak döndürmez)
+     */
+    private List<Object[]> query(String sql, Object... params) throws SQLException {
+        return database.withConnection(false, pooled -> {
+            List<Object[]> rows = new ArrayList<>();
+            try (PreparedStatement pstmt = pooled.getConnection().prepareStatement(sql)) {
+                for (int i = 0; i < params.length; i++) {
+                    pstmt.setObject(i + 1, params[i]);
+                }
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    int columnCount = rs.getMetaData().getColumnCount();
+                    while (rs.next()) {
+                        Object[] row = new Object[columnCount];
+                        for (int i = 0; i < columnCount; i++) {
+                            row[i] = rs.getObject(i + 1);
+                        }
+                        rows.add(row);
+                    }
+                }
+            }
+            return rows;
+        });
+    }
+
+    private void execute(String sql) throws SQLException {
+        database.withConnection(false, pooled -> {
+            try (Statement stmt = pooled.getConnection().createStatement()) {
+                stmt.execute(sql);
+            }
+            return null;
+        });
+    }
+}
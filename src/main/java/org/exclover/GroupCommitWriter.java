@@ -0,0 +1,194 @@
+package org.exclover;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQLite için grup commit yazıcısı.
+ * Kısa bir zaman penceresi içinde gelen asenkron insert'ler tek transaction içinde yazılır,
+ * böylece her satır için ayrı fsync yapılmaz. Her çağıran kendi ID'sini kendi future'ından alır.
+ */
+class GroupCommitWriter {
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private final DBManager database;
+    private final long windowMillis;
+    private final int maxRows;
+    private final BlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread writerThread;
+    private volatile boolean open = true;
+
+    /**
+     * Kuyrukta bekleyen tek bir insert isteği
+     */
+    private static class PendingInsert {
+        final String tableName;
+        final Map<String, Object> values;
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        PendingInsert(String tableName, Map<String, Object> values) {
+            this.tableName = tableName;
+            this.values = values;
+        }
+    }
+
+    /**
+     * GroupCommitWriter constructor
+     * @param database Database nesnesi
+     * @param name Yazıcı thread'inin adı
+     * @param windowMillis İlk satırdan sonra diğer satırların bekleneceği süre
+     * @param maxRows Bir transaction'daki maksimum satır sayısı
+     */
+    GroupCommitWriter(DBManager database, String name, long windowMillis, int maxRows) {
+        this.database = database;
+        this.windowMillis = windowMillis;
+        this.maxRows = maxRows;
+        this.writerThread = new Thread(this::run, name);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Insert isteğini kuyruğa ekler
+     * @param tableName Tablo adı
+     * @param values Sütun adı - değer eşlemeleri
+     * @return Eklenen satır ID'siyle tamamlanacak future, kuyruk doluysa veya yazıcı kapalıysa null
+     */
+    CompletableFuture<Long> submit(String tableName, Map<String, Object> values) {
+        PendingInsert insert = new PendingInsert(tableName, values);
+        // close() ile aynı kilit: kapanış sonrasında kuyruğa satır eklenip sahipsiz kalamaz
+        synchronized (this) {
+            if (!open) {
+                return null;
+            }
+            return queue.offer(insert) ? insert.future : null;
+        }
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Kuyruk derinliğini döndürür
+     * @return Bekleyen insert sayısı
+     */
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Yeni istek kabulünü durdurur, kuyruktakileri yazar ve yazıcı thread'ini sonlandırır
+     */
+    void close() {
+        synchronized (this) {
+            open = false;
+        }
+        if (Thread.currentThread() == writerThread) {
+            // Yazıcı kendi içinden kapatılıyorsa (örn. yeniden bağlanma) döngü kalan satırları yazıp biter
+            return;
+        }
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Thread zamanında bitmediyse kalan istekler boşta bırakılmaz
+        PendingInsert insert;
+        while ((insert = queue.poll()) != null) {
+            insert.future.completeExceptionally(new SQLException("Group commit writer closed"));
+        }
+    }
+
+    private void run() {
+        List<PendingInsert> group = new ArrayList<>(maxRows);
+        while (open || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+
+                // Pencere dolana kadar veya maxRows'a ulaşana kadar diğer satırları topla
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMillis);
+                while (group.size() < maxRows) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingInsert next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+
+                writeGroup(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Toplanmış ve kuyrukta kalan istekler yazılamayacak; çağıranlar beklemede bırakılmaz
+                SQLException error = new SQLException("Group commit writer interrupted", e);
+                for (PendingInsert insert : group) {
+                    insert.future.completeExceptionally(error);
+                }
+                synchronized (this) {
+                    open = false;
+                }
+                PendingInsert insert;
+                while ((insert = queue.poll()) != null) {
+                    insert.future.completeExceptionally(error);
+                }
+                break;
+            } catch (RuntimeException e) {
+                for (PendingInsert insert : group) {
+                    insert.future.completeExceptionally(e);
+                }
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    /**
+     * Grubu tek transaction içinde yazar. Bir satır hata verirse transaction geri alınır
+     * ve satırlar tek tek yazılır, böylece sadece hatalı satırın future'ı başarısız olur.
+     * @param group Yazılacak istekler
+     */
+    private void writeGroup(List<PendingInsert> group) {
+        long[] ids = new long[group.size()];
+        try {
+            database.withConnection(false, pooled -> database.inTransaction(pooled, () -> {
+                for (int i = 0; i < group.size(); i++) {
+                    PendingInsert insert = group.get(i);
+                    ids[i] = database.insertRow(pooled, insert.tableName, insert.values);
+                }
+                return null;
+            }));
+        } catch (SQLException e) {
+            if (group.size() == 1) {
+                group.get(0).future.completeExceptionally(e);
+            } else {
+                writeIndividually(group);
+            }
+            return;
+        }
+
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).future.complete(ids[i]);
+        }
+    }
+
+    private void writeIndividually(List<PendingInsert> group) {
+        for (PendingInsert insert : group) {
+            try {
+                insert.future.complete(database.insertDataChecked(insert.tableName, insert.values));
+            } catch (SQLException e) {
+                insert.future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package org.exclover;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 /**
@@ -8,7 +12,12 @@ import java.util.function.Consumer;
 public class InsertBuilder {
     private final DBManager database;
     private final String tableName;
-    private long insertId = -1;
+    private final Map<String, Object> values = new LinkedHashMap<>();
+    private volatile long insertId = -1;
+    private int batchSize = BatchSizer.DEFAULT_BATCH_SIZE;
+    private long adaptiveTargetMillis = -1;
+    private boolean multiRowValues = false;
+    private volatile BatchStats lastBatchStats;
 
     /**
      * InsertBuilder constructor
@@ -27,7 +36,7 @@ public class InsertBuilder {
      * @return InsertBuilder nesnesi
      */
     public InsertBuilder setString(String columnName, String value) {
-        database.setValue(columnName, value != null ? value : "");
+        values.put(columnName, value != null ? value : "");
         return this;
     }
 
@@ -38,7 +47,7 @@ public class InsertBuilder {
      * @return InsertBuilder nesnesi
      */
     public InsertBuilder setInteger(String columnName, int value) {
-        database.setValue(columnName, value);
+        values.put(columnName, value);
         return this;
     }
 
@@ -49,7 +58,7 @@ public class InsertBuilder {
      * @return InsertBuilder nesnesi
      */
     public InsertBuilder setDouble(String columnName, double value) {
-        database.setValue(columnName, value);
+        values.put(columnName, value);
         return this;
     }
 
@@ -60,7 +69,7 @@ public class InsertBuilder {
      * @return InsertBuilder nesnesi
      */
     public InsertBuilder setBoolean(String columnName, boolean value) {
-        database.setValue(columnName, value);
+        values.put(columnName, value);
         return this;
     }
 
@@ -71,7 +80,7 @@ public class InsertBuilder {
      * @return InsertBuilder nesnesi
      */
     public InsertBuilder setDate(String columnName, java.util.Date value) {
-        database.setValue(columnName, value);
+        values.put(columnName, value);
         return this;
     }
 
@@ -80,7 +89,7 @@ public class InsertBuilder {
      * @return Eklenen satır ID'si
      */
     public long execute() {
-        insertId = database.insertData(tableName);
+        insertId = database.insertData(tableName, values);
         return insertId;
     }
 
@@ -89,7 +98,8 @@ public class InsertBuilder {
      * @param callback Sonuç callback'i
      */
     public void executeAsync(Consumer<Long> callback) {
-        database.insertDataAsync(tableName, id -> {
+        // Builder sonradan değiştirilse bile bu çağrının değerleri korunur
+        database.insertDataAsync(tableName, new LinkedHashMap<>(values), id -> {
             insertId = id;
             if (callback != null) {
                 callback.accept(id);
@@ -97,6 +107,18 @@ public class InsertBuilder {
         });
     }
 
+    /**
+     * Veriyi tabloya asenkron olarak ekler
+     * @return Eklenen satır ID'siyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Long> executeAsync() {
+        return database.insertDataAsync(tableName, new LinkedHashMap<>(values))
+                .thenApply(id -> {
+                    insertId = id;
+                    return id;
+                });
+    }
+
     /**
      * Eklenen son kaydın ID'sini döndürür
      * @return ID değeri
@@ -112,54 +134,7 @@ public class InsertBuilder {
      * @return Güncellenen satır sayısı
      */
     public int executeUpdate(String whereClause, Object... params) {
-        if (whereClause == null || whereClause.isEmpty()) {
-            throw new IllegalArgumentException("Güncelleme için WHERE koşulu gereklidir");
-        }
-        
-        StringBuilder sql = new StringBuilder();
-        sql.append("UPDATE ").append(tableName).append(" SET ");
-        
-        boolean firstColumn = true;
-        // values haritasını doğrudan DBManager'dan alamayız, bu yüzden kendi değerlerimizi kullanacağız
-        java.util.Map<String, Object> values = new java.util.HashMap<>();
-        
-        try {
-            // DBManager sınıfının values field'ına reflection ile erişim
-            java.lang.reflect.Field valuesField = database.getClass().getDeclaredField("values");
-            valuesField.setAccessible(true);
-            values = (java.util.Map<String, Object>) valuesField.get(database);
-        } catch (Exception e) {
-            System.err.println("Values haritasına erişim hatası: " + e.getMessage());
-            return -1;
-        }
-        
-        java.util.List<Object> valuesList = new java.util.ArrayList<>();
-        
-        for (java.util.Map.Entry<String, Object> entry : values.entrySet()) {
-            if (!firstColumn) {
-                sql.append(", ");
-            }
-            sql.append(entry.getKey()).append(" = ?");
-            valuesList.add(entry.getValue());
-            firstColumn = false;
-        }
-        
-        // WHERE koşulunu ekle
-        sql.append(" WHERE ").append(whereClause);
-        
-        // Tüm parametreleri birleştir (önce SET değerleri, sonra WHERE parametreleri)
-        Object[] allParams = new Object[valuesList.size() + params.length];
-        int i = 0;
-        
-        for (Object value : valuesList) {
-            allParams[i++] = value;
-        }
-        
-        for (Object param : params) {
-            allParams[i++] = param;
-        }
-        
-        return database.executeUpdate(sql.toString(), allParams);
+        return newUpdate(whereClause, params).execute();
     }
 
     /**
@@ -169,12 +144,24 @@ public class InsertBuilder {
      * @param params WHERE koşulu için parametreler
      */
     public void executeUpdateAsync(String whereClause, Consumer<Integer> callback, Object... params) {
-        database.getExecutorService().submit(() -> {
-            int result = executeUpdate(whereClause, params);
-            if (callback != null) {
-                callback.accept(result);
-            }
-        });
+        database.runAsync(() -> executeUpdate(whereClause, params), callback);
+    }
+
+    /**
+     * Veriyi tabloda asenkron olarak günceller
+     * @param whereClause Güncelleme koşulu (örn. "id = ?")
+     * @param params WHERE koşulu için parametreler
+     * @return Güncellenen satır sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Integer> executeUpdateAsync(String whereClause, Object... params) {
+        return newUpdate(whereClause, params).executeAsync();
+    }
+
+    /**
+     * Bu builder'ın değerleriyle bir UpdateBuilder oluşturur
+     */
+    private UpdateBuilder newUpdate(String whereClause, Object[] params) {
+        return new UpdateBuilder(database, tableName).setAll(values).where(whereClause, params);
     }
 
     /**
@@ -183,83 +170,100 @@ public class InsertBuilder {
      * @return Eklenen kayıt sayısı
      */
     public int executeBatch(java.util.List<java.util.Map<String, Object>> valuesList) {
-        if (valuesList == null || valuesList.isEmpty()) {
-            return 0;
+        BatchStats stats = database.insertBatch(tableName, valuesList, newBatchSizer(), false);
+        if (stats == null) {
+            return -1;
         }
-        
-        // Veritabanı bağlantı kontrolü
-        if (!database.isConnected()) {
-            database.reconnect();
+        lastBatchStats = stats;
+        return stats.getRows();
+    }
+
+    /**
+     * Birden fazla veriyi toplu olarak ekler ve üretilen ID'leri döndürür.
+     * Böylece ana ve alt kayıtlar tek tek insert yerine iki toplu işlemle eklenebilir.
+     * @param valuesList Eklenecek değerlerin listesi
+     * @return Kayıtlarla aynı sırada üretilen ID'ler, hata durumunda null
+     */
+    public long[] executeBatchReturningKeys(java.util.List<java.util.Map<String, Object>> valuesList) {
+        BatchStats stats = database.insertBatch(tableName, valuesList, newBatchSizer(), true);
+        if (stats == null) {
+            return null;
         }
-        
-        try {
-            // İlk kaydın sütunlarını kullanarak SQL hazırla
-            java.util.Map<String, Object> firstRecord = valuesList.get(0);
-            
-            StringBuilder columnNames = new StringBuilder();
-            StringBuilder placeholders = new StringBuilder();
-            
-            boolean first = true;
-            for (String column : firstRecord.keySet()) {
-                if (!first) {
-                    columnNames.append(", ");
-                    placeholders.append(", ");
-                }
-                
-                columnNames.append(column);
-                placeholders.append("?");
-                first = false;
-            }
-            
-            String sql = "INSERT INTO " + tableName + " (" + columnNames + ") VALUES (" + placeholders + ")";
-            
-            java.sql.Connection conn = null;
-            try {
-                // Reflection ile connection'a eriş
-                java.lang.reflect.Field connectionField = database.getClass().getDeclaredField("connection");
-                connectionField.setAccessible(true);
-                conn = (java.sql.Connection) connectionField.get(database);
-            } catch (Exception e) {
-                System.err.println("Connection'a erişim hatası: " + e.getMessage());
-                return -1;
-            }
-            
-            // Otomatik commit'i kapat (performans için)
-            boolean originalAutoCommit = conn.getAutoCommit();
-            conn.setAutoCommit(false);
-            
-            java.sql.PreparedStatement pstmt = conn.prepareStatement(sql);
-            
-            int batchCount = 0;
-            for (java.util.Map<String, Object> record : valuesList) {
-                int paramIndex = 1;
-                for (Object value : record.values()) {
-                    pstmt.setObject(paramIndex++, value);
-                }
-                pstmt.addBatch();
-                batchCount++;
-                
-                // Her 100 kayıtta bir batch'i işle
-                if (batchCount % 100 == 0) {
-                    pstmt.executeBatch();
-                }
-            }
-            
-            // Kalan batch'leri işle
-            if (batchCount % 100 != 0) {
-                pstmt.executeBatch();
-            }
-            
-            // Değişiklikleri kaydet ve orijinal autoCommit değerine geri dön
-            conn.commit();
-            conn.setAutoCommit(originalAutoCommit);
-            
-            pstmt.close();
-            return batchCount;
-        } catch (Exception e) {
-            System.err.println("Batch insert hatası: " + e.getMessage());
-            return -1;
+        lastBatchStats = stats;
+        return stats.getGeneratedKeys();
+    }
+
+    /**
+     * Birden fazla veriyi toplu olarak asenkron ekler ve üretilen ID'leri döndürür
+     * @param valuesList Eklenecek değerlerin listesi
+     * @return Üretilen ID'lerle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<long[]> executeBatchReturningKeysAsync(java.util.List<java.util.Map<String, Object>> valuesList) {
+        return database.insertBatchAsync(tableName, valuesList, newBatchSizer(), true)
+                .thenApply(stats -> {
+                    lastBatchStats = stats;
+                    return stats.getGeneratedKeys();
+                });
+    }
+
+    /**
+     * executeBatch çağrılarında her seferde gönderilecek satır sayısını belirler (varsayılan 100)
+     * @param batchSize Batch boyutu
+     * @return InsertBuilder nesnesi
+     */
+    public InsertBuilder batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch boyutu en az 1 olmalıdır");
         }
+        this.batchSize = batchSize;
+        this.adaptiveTargetMillis = -1;
+        return this;
+    }
+
+    /**
+     * Batch boyutunu ölçülen batch süresine ve satır genişliğine göre otomatik ayarlar (hedef 50 ms)
+     * @return InsertBuilder nesnesi
+     */
+    public InsertBuilder adaptiveBatchSize() {
+        return adaptiveBatchSize(BatchSizer.DEFAULT_TARGET_MILLIS);
+    }
+
+    /**
+     * Batch boyutunu ölçülen batch süresine ve satır genişliğine göre otomatik ayarlar
+     * @param targetBatchMillis Bir batch için hedef süre (ms)
+     * @return InsertBuilder nesnesi
+     */
+    public InsertBuilder adaptiveBatchSize(long targetBatchMillis) {
+        if (targetBatchMillis < 1) {
+            throw new IllegalArgumentException("Hedef batch süresi en az 1 ms olmalıdır");
+        }
+        this.adaptiveTargetMillis = targetBatchMillis;
+        return this;
+    }
+
+    /**
+     * executeBatch çağrılarında satırları addBatch yerine çok satırlı INSERT ... VALUES (...),(...) ifadeleriyle gönderir.
+     * İfade başına satır sayısı batch boyutu, SQLite parametre sınırı ve MySQL max_allowed_packet ile sınırlanır.
+     * @return InsertBuilder nesnesi
+     */
+    public InsertBuilder multiRowValues() {
+        this.multiRowValues = true;
+        return this;
+    }
+
+    /**
+     * Son toplu yüklemenin istatistiklerini döndürür (satır/saniye, batch sayısı vb.)
+     * @return BatchStats nesnesi, henüz yükleme yapılmadıysa null
+     */
+    public BatchStats getLastBatchStats() {
+        return lastBatchStats;
+    }
+
+    private BatchSizer newBatchSizer() {
+        BatchSizer sizer = adaptiveTargetMillis > 0
+                ? BatchSizer.adaptive(batchSize, adaptiveTargetMillis)
+                : BatchSizer.fixed(batchSize);
+        return multiRowValues ? sizer.multiRow() : sizer;
     }
 
     /**
@@ -268,11 +272,27 @@ public class InsertBuilder {
      * @param callback Sonuç callback'i
      */
     public void executeBatchAsync(java.util.List<java.util.Map<String, Object>> valuesList, Consumer<Integer> callback) {
-        database.getExecutorService().submit(() -> {
-            int result = executeBatch(valuesList);
+        try {
+            database.runAsync(() -> executeBatch(valuesList), callback);
+        } catch (RejectedExecutionException e) {
+            // Kuyruk doluyken toplu iş reddedilir, çağıran -1 ile bilgilendirilir
+            System.err.println("Batch insert rejected: " + e.getMessage());
             if (callback != null) {
-                callback.accept(result);
+                callback.accept(-1);
             }
-        });
+        }
+    }
+
+    /**
+     * Birden fazla veriyi toplu olarak asenkron ekler
+     * @param valuesList Eklenecek değerlerin listesi
+     * @return Eklenen kayıt sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Integer> executeBatchAsync(java.util.List<java.util.Map<String, Object>> valuesList) {
+        return database.insertBatchAsync(tableName, valuesList, newBatchSizer(), false)
+                .thenApply(stats -> {
+                    lastBatchStats = stats;
+                    return stats.getRows();
+                });
     }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package org.exclover;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bir BulkLoader yüklemesinin sonucu. Paralel yüklemelerde her bölümün sonucu ve hatası ayrıca raporlanır.
+ */
+public class LoadResult {
+
+    /**
+     * Tek bir bölümün sonucu
+     */
+    public static class Partition {
+        private final int index;
+        private final long rows;
+        private final int batches;
+        private final long elapsedNanos;
+        private final SQLException error;
+
+        /**
+         * Partition constructor
+         * @param index Bölüm sırası
+         * @param rows Commit edilen satır sayısı
+         * @param batches Gönderilen batch sayısı
+         * @param elapsedNanos Bölümün süresi
+         * @param error Hata, başarılıysa null
+         */
+        Partition(int index, long rows, int batches, long elapsedNanos, SQLException error) {
+            this.index = index;
+            this.rows = rows;
+            this.batches = batches;
+            this.elapsedNanos = elapsedNanos;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Commit edilen satır sayısı (hata durumunda hatadan önce commit edilenler)
+         * @return Satır sayısı
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        public int getBatches() {
+            return batches;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        /**
+         * Bölümün hatası
+         * @return Hata, bölüm başarılıysa null
+         */
+        public SQLException getError() {
+            return error;
+        }
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return "Partition [index=" + index + ", rows=" + rows + ", elapsed=" + getElapsedMillis() + "ms" +
+                    (error != null ? ", error=" + error.getMessage() : "") + "]";
+        }
+    }
+
+    private final long rows;
+    private final int batches;
+    private final long elapsedNanos;
+    private final List<Partition> partitions;
+    private List<String> unrestoredIndexes = Collections.emptyList();
+
+    /**
+     * LoadResult constructor
+     * @param rows Yüklenen satır sayısı
+     * @param batches Gönderilen batch sayısı
+     * @param elapsedNanos Toplam süre
+     * @param partitions Bölüm sonuçları
+     */
+    LoadResult(long rows, int batches, long elapsedNanos, List<Partition> partitions) {
+        this.rows = rows;
+        this.batches = batches;
+        this.elapsedNanos = elapsedNanos;
+        this.partitions = partitions;
+    }
+
+    /**
+     * Commit edilen toplam satır sayısı
+     * @return Satır sayısı
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * Saniyedeki satır sayısı
+     * @return Satır/saniye
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Bölüm sonuçları, bölüm sırasıyla
+     * @return Bölüm listesi
+     */
+    public List<Partition> getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Hata veren bölümler
+     * @return Bölüm listesi, tüm bölümler başarılıysa boş
+     */
+    public List<Partition> getFailedPartitions() {
+        List<Partition> failed = new ArrayList<>();
+        for (Partition partition : partitions) {
+            if (!partition.isSuccessful()) {
+                failed.add(partition);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * deferIndexes ile kaldırılıp yükleme sonunda yeniden oluşturulamayan indeksler. Tanımları hata çıktısına
+     * yazılır; elle oluşturulana kadar tablo bu indeksler olmadan kalır.
+     * @return İndeks adları, hepsi oluşturulduysa boş liste
+     */
+    public List<String> getUnrestoredIndexes() {
+        return unrestoredIndexes;
+    }
+
+    void setUnrestoredIndexes(List<String> unrestoredIndexes) {
+        this.unrestoredIndexes = Collections.unmodifiableList(new ArrayList<>(unrestoredIndexes));
+    }
+
+    /**
+     * Tüm bölümler hatasız yüklendiyse ve kaldırılan indekslerin hepsi geri oluşturulduysa true
+     * @return Başarı durumu
+     */
+    public boolean isSuccessful() {
+        return getFailedPartitions().isEmpty() && unrestoredIndexes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "LoadResult [rows=" + rows + ", batches=" + batches + ", elapsed=" + getElapsedMillis() +
+                "ms, rowsPerSecond=" + String.format("%.0f", getRowsPerSecond()) + ", partitions=" + partitions.size() +
+                ", failed=" + getFailedPartitions().size() +
+                (unrestoredIndexes.isEmpty() ? "" : ", unrestoredIndexes=" + unrestoredIndexes) + "]";
+    }
+}
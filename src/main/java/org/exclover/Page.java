@@ -0,0 +1,161 @@
+package org.exclover;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Anahtar bazlı (keyset) sayfalamada tek bir sayfa. Sonraki sayfa, bu sayfanın son satırının anahtar
+ * değerlerini taşıyan opak bir token ile istenir; sorgu OFFSET yerine anahtar üzerinden ilerlediği
+ * için her sayfanın maliyeti ilk sayfayla aynıdır.
+ */
+public class Page {
+    private final List<Map<String, Object>> rows;
+    private final String nextToken;
+
+    /**
+     * Page constructor
+     * @param rows Sayfanın satırları
+     * @param nextToken Sonraki sayfanın token'ı, son sayfada null
+     */
+    Page(List<Map<String, Object>> rows, String nextToken) {
+        this.rows = rows;
+        this.nextToken = nextToken;
+    }
+
+    /**
+     * Sayfanın satırları
+     * @return Satır listesi
+     */
+    public List<Map<String, Object>> getRows() {
+        return rows;
+    }
+
+    /**
+     * Sayfanın satırlarını QueryResult listesi olarak döndürür
+     * @return QueryResult listesi
+     */
+    public List<QueryResult> getResults() {
+        return QueryResult.fromList(rows);
+    }
+
+    /**
+     * Sonraki sayfayı istemek için kullanılacak token
+     * @return Token, son sayfada null
+     */
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * Sonraki sayfa varsa true
+     * @return Sonraki sayfa durumu
+     */
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Page [rows=" + rows.size() + ", hasNext=" + hasNext() + "]";
+    }
+
+    /**
+     * Anahtar değerlerini URL'de kullanılabilir bir token'a çevirir. Her değer tipini korur
+     * (tip harfi, uzunluk, değer), böylece token çözüldüğünde aynı tipte bağlanır.
+     * @param values Anahtar değerleri (NULL olamaz)
+     * @return Token
+     */
+    static String encodeToken(Object[] values) {
+        StringBuilder token = new StringBuilder();
+        for (Object value : values) {
+            char tag;
+            String text;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                tag = 'L';
+                text = value.toString();
+            } else if (value instanceof Double || value instanceof Float) {
+                tag = 'D';
+                text = value.toString();
+            } else if (value instanceof BigDecimal) {
+                tag = 'B';
+                text = ((BigDecimal) value).toPlainString();
+            } else if (value instanceof Boolean) {
+                tag = 'Z';
+                text = value.toString();
+            } else if (value instanceof java.sql.Timestamp) {
+                tag = 'T';
+                text = value.toString();
+            } else if (value instanceof java.sql.Date) {
+                tag = 'd';
+                text = value.toString();
+            } else if (value instanceof LocalDateTime) {
+                // Connector/J 8 DATETIME sütunlarını LocalDateTime olarak döndürür
+                tag = 't';
+                text = value.toString();
+            } else if (value instanceof LocalDate) {
+                tag = 'a';
+                text = value.toString();
+            } else if (value instanceof OffsetDateTime) {
+                tag = 'o';
+                text = value.toString();
+            } else {
+                tag = 'S';
+                text = value.toString();
+            }
+            token.append(tag).append(text.length()).append(':').append(text);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token'ı anahtar değerlerine çözer
+     * @param token Token
+     * @param expectedCount Beklenen anahtar sütunu sayısı
+     * @return Anahtar değerleri
+     * @throws IllegalArgumentException Token geçersizse veya başka bir anahtar için üretilmişse
+     */
+    static Object[] decodeToken(String token, int expectedCount) {
+        List<Object> values = new ArrayList<>();
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int position = 0;
+            while (position < text.length()) {
+                char tag = text.charAt(position);
+                int colon = text.indexOf(':', position);
+                int length = Integer.parseInt(text.substring(position + 1, colon));
+                String value = text.substring(colon + 1, colon + 1 + length);
+                position = colon + 1 + length;
+                switch (tag) {
+                    case 'L': values.add(Long.parseLong(value)); break;
+                    case 'D': values.add(Double.parseDouble(value)); break;
+                    case 'B': values.add(new BigDecimal(value)); break;
+                    case 'Z': values.add(Boolean.parseBoolean(value)); break;
+                    case 'T': values.add(java.sql.Timestamp.valueOf(value)); break;
+                    case 'd': values.add(java.sql.Date.valueOf(value)); break;
+                    case 't': values.add(LocalDateTime.parse(value)); break;
+                    case 'a': values.add(LocalDate.parse(value)); break;
+                    case 'o': values.add(OffsetDateTime.parse(value)); break;
+                    case 'S': values.add(value); break;
+                    default: throw new IllegalArgumentException("Unknown value type: " + tag);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa token'ı: " + token, e);
+        }
+        if (values.size() != expectedCount) {
+            throw new IllegalArgumentException("Sayfa token'ı bu sorgunun anahtarına ait değil: " + token);
+        }
+        return values.toArray();
+    }
+}
@@ -0,0 +1,186 @@
+package org.exclover;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Bir tabloyu veya sorguyu anahtar sırasıyla sayfa sayfa dolaşan iterator.
+ * Çağıran bir sayfayı işlerken sonraki sayfalar executor üzerinde önceden getirilir; böylece veritabanı
+ * gecikmesi işleme süresiyle örtüşür. Sayfalar keyset token'larıyla sırayla zincirlenir: bir sayfa
+ * geldiğinde sıradaki sayfanın sorgusu hemen başlatılır. Önceden getirilen sayfa sayısı hem prefetch
+ * derinliğiyle hem de bellekte bekletilecek en fazla satır sayısıyla sınırlanır.
+ * Sayfalar executor thread'lerinde okunduğu için çağıranın transaction'ına dahil olmaz.
+ */
+public class PageIterator implements Iterator<Page>, AutoCloseable {
+    static final int DEFAULT_PREFETCH = 1;
+
+    private final QueryBuilder query;
+    private final int pageSize;
+    private int prefetch = DEFAULT_PREFETCH;
+    private long maxBufferedRows = Long.MAX_VALUE;
+
+    // Önceden getirilen sayfalar; null sonuç taramanın bittiğini gösterir
+    private final Deque<CompletableFuture<Page>> ahead = new ArrayDeque<>();
+    private String nextToken;
+    private boolean started;
+    private boolean exhausted;
+    private boolean closed;
+
+    /**
+     * PageIterator constructor
+     * @param query Taranacak sorgu (anahtar {@link QueryBuilder#keyset(String...)} ile belirlenir)
+     * @param pageSize Sayfadaki en fazla satır sayısı
+     */
+    PageIterator(QueryBuilder query, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Sayfa boyutu en az 1 olmalıdır");
+        }
+        this.query = query;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Önceden getirilecek sayfa sayısını belirler (varsayılan 1). Tarama başlamadan çağrılmalıdır.
+     * @param pages Sayfa sayısı
+     * @return PageIterator nesnesi
+     */
+    public PageIterator prefetch(int pages) {
+        if (pages < 1) {
+            throw new IllegalArgumentException("Prefetch derinliği en az 1 olmalıdır");
+        }
+        this.prefetch = pages;
+        return this;
+    }
+
+    /**
+     * Önceden getirilip bekletilen sayfalardaki en fazla satır sayısını belirler. Derinlik bu sınıra
+     * sığacak sayfa sayısına düşürülür; en az bir sayfa her zaman önceden getirilir.
+     * @param rows Satır sayısı
+     * @return PageIterator nesnesi
+     */
+    public PageIterator maxBufferedRows(long rows) {
+        this.maxBufferedRows = Math.max(1, rows);
+        return this;
+    }
+
+    /**
+     * Sonraki sayfa varsa true; gerekirse sayfanın gelmesini bekler
+     * @return Sonraki sayfa durumu
+     * @throws IllegalStateException Sayfa getirilemezse
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed || exhausted) {
+            return false;
+        }
+        fill();
+        if (await(ahead.peekFirst()) == null) {
+            close();
+            exhausted = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sonraki sayfayı döndürür ve boşalan yere yeni bir sayfanın getirilmesini başlatır
+     * @return Sayfa
+     * @throws IllegalStateException Sayfa getirilemezse
+     */
+    @Override
+    public Page next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Page page = await(ahead.pollFirst());
+        nextToken = page.getNextToken();
+        if (nextToken == null && ahead.isEmpty()) {
+            exhausted = true;
+        }
+        fill();
+        return page;
+    }
+
+    /**
+     * Tüm satırları sırayla verilen işleme gönderir ve taramayı kapatır
+     * @param action Satır başına çalışacak işlem
+     * @throws IllegalStateException Sayfa getirilemezse
+     */
+    public void forEachRow(Consumer<QueryResult> action) {
+        try {
+            while (hasNext()) {
+                for (QueryResult row : next().getResults()) {
+                    action.accept(row);
+                }
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Bekleyen sayfaları bırakır; yolda olan sorgular tamamlanır ama sonraki sayfalar başlatılmaz
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (CompletableFuture<Page> future : ahead) {
+            future.cancel(false);
+        }
+        ahead.clear();
+    }
+
+    /**
+     * Önceden getirme kuyruğunu derinlik kadar doldurur. Her sayfa bir öncekinin token'ıyla zincirlenir.
+     */
+    private void fill() {
+        if (closed || exhausted) {
+            return;
+        }
+        long depth = Math.max(1, Math.min(prefetch, maxBufferedRows / pageSize));
+        while (ahead.size() < depth) {
+            CompletableFuture<Page> last = ahead.peekLast();
+            CompletableFuture<Page> next;
+            if (last != null) {
+                next = last.thenCompose(page -> page != null && page.hasNext()
+                        ? fetch(page.getNextToken())
+                        : CompletableFuture.completedFuture(null));
+            } else if (!started || nextToken != null) {
+                next = fetch(nextToken);
+                started = true;
+            } else {
+                return;
+            }
+            ahead.addLast(next);
+        }
+    }
+
+    /**
+     * Sayfayı getirir; boş sayfa taramanın sonu sayılır
+     */
+    private CompletableFuture<Page> fetch(String token) {
+        return query.pageAsync(token, pageSize).thenApply(page -> page.size() == 0 ? null : page);
+    }
+
+    private Page await(CompletableFuture<Page> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            close();
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof SQLException) {
+                throw new IllegalStateException("Page fetch failed: " + cause.getMessage(), cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.exclover;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Havuz tarafından yönetilen tek bir JDBC bağlantısını ve yaşam döngüsü bilgilerini tutar.
+ * Bağlantı aynı anda tek bir thread tarafından ödünç alındığı için statement önbelleği senkronize edilmez.
+ */
+class PooledConnection {
+    private final Connection connection;
+    private final ConnectionPool owner;
+    private final int generation;
+    private final long createdAt;
+    private volatile long lastUsedAt;
+
+    // SQL metnine göre anahtarlanmış, erişim sırasına göre tutulan (LRU) statement önbelleği
+    private final Map<String, PreparedStatement> statementCache = new LinkedHashMap<>(16, 0.75f, true);
+    // Önbellek kapalıyken açılan ve geri verilirken kapatılacak statement'lar
+    private final List<Statement> uncachedStatements = new ArrayList<>();
+
+    /**
+     * PooledConnection constructor
+     * @param connection Gerçek JDBC bağlantısı
+     * @param owner Bağlantının ait olduğu havuz
+     * @param generation Bağlantının ait olduğu havuz nesli
+     */
+    PooledConnection(Connection connection, ConnectionPool owner, int generation) {
+        this.connection = connection;
+        this.owner = owner;
+        this.generation = generation;
+        this.createdAt = System.currentTimeMillis();
+        this.lastUsedAt = createdAt;
+    }
+
+    /**
+     * JDBC bağlantısını döndürür
+     * @return Bağlantı
+     */
+    Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Bağlantının ait olduğu havuzu döndürür
+     * @return ConnectionPool nesnesi
+     */
+    ConnectionPool getOwner() {
+        return owner;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    /**
+     * Önbellekten hazırlanmış statement döndürür, yoksa hazırlayıp önbelleğe ekler.
+     * Dönen statement kapatılmamalıdır; ResultSet'ler ise kullanım sonunda kapatılmalıdır.
+     * @param sql SQL sorgusu
+     * @return PreparedStatement nesnesi
+     * @throws SQLException Statement hazırlanamazsa
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+        return prepare(sql, false);
+    }
+
+    /**
+     * Önbellekten hazırlanmış statement döndürür, yoksa hazırlayıp önbelleğe ekler
+     * @param sql SQL sorgusu
+     * @param returnGeneratedKeys Üretilen anahtarlar istenecekse true
+     * @return PreparedStatement nesnesi
+     * @throws SQLException Statement hazırlanamazsa
+     */
+    PreparedStatement prepare(String sql, boolean returnGeneratedKeys) throws SQLException {
+        int capacity = owner.getStatementCacheSize();
+        String key = returnGeneratedKeys ? "#keys:" + sql : sql;
+
+        if (capacity > 0) {
+            PreparedStatement cached = statementCache.get(key);
+            if (cached != null && !cached.isClosed()) {
+                // Hatayla yarıda kalan bir batch'in satırları sonraki kullanıcıya taşınmasın
+                cached.clearBatch();
+                cached.clearParameters();
+                owner.recordStatementCacheHit();
+                return cached;
+            }
+            owner.recordStatementCacheMiss();
+        }
+
+        PreparedStatement statement = returnGeneratedKeys
+                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql);
+
+        if (capacity > 0) {
+            statementCache.put(key, statement);
+            // En uzun süre kullanılmayan statement'ları kapat
+            Iterator<PreparedStatement> it = statementCache.values().iterator();
+            while (statementCache.size() > capacity && it.hasNext()) {
+                closeQuietly(it.next());
+                it.remove();
+            }
+        } else {
+            uncachedStatements.add(statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Önbellekteki statement sayısını döndürür
+     * @return Statement sayısı
+     */
+    int getCachedStatementCount() {
+        return statementCache.size();
+    }
+
+    /**
+     * Bağlantı havuza dönerken önbelleğe alınmamış statement'ları kapatır
+     */
+    void closeUncachedStatements() {
+        for (Statement statement : uncachedStatements) {
+            closeQuietly(statement);
+        }
+        uncachedStatements.clear();
+    }
+
+    /**
+     * Hata sonrasında statement'ta kuyruklanmış batch satırlarını atar; temizleme hatası asıl hataya eklenir
+     * @param statement Önbellekteki statement
+     * @param cause Asıl hata
+     */
+    static void discardBatch(PreparedStatement statement, Exception cause) {
+        try {
+            statement.clearBatch();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Statement closing error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Son kullanım zamanını günceller
+     */
+    void touch() {
+        lastUsedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Bağlantıyı sessizce kapatır
+     */
+    void closeQuietly() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Pooled connection closing error: " + e.getMessage());
+        }
+    }
+}
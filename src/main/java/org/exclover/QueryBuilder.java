@@ -1,24 +1,33 @@
 package org.exclover;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Sorgu oluşturmak için QueryBuilder sınıfı
  */
 public class QueryBuilder {
+    // Anahtar bazlı sayfalamada anahtar sütunlarının okunduğu iç takma adların öneki
+    static final String KEY_ALIAS_PREFIX = "__k";
+
     private final DBManager database;
     private final String tableName;
     private final StringBuilder whereClause;
     private final List<Object> parameters;
+    private String selectClause = "*";
     private String orderByClause;
     private String limitClause;
     private String joinClause = "";
     private String groupByClause = "";
     private String havingClause = "";
-    private List<Object> havingParameters = new ArrayList<>();
+    private final List<Object> havingParameters = new ArrayList<>();
+    private String[] keyColumns = {"id"};
+    private boolean keyAscending = true;
 
     /**
      * QueryBuilder constructor
@@ -35,13 +44,30 @@ public class QueryBuilder {
     }
 
     /**
-     * Sorguyu asenkron çalıştırır ve tek bir sonuç döndürür
+     * Sorguyu asenkron çalıştırır ve tek bir sonuç döndürür. Callback, satırın getString/getInteger ile
+     * okunabilmesi için sorguyu çalıştıran thread'de çağrılır; satır nesnesi için {@link #firstResultAsync} kullanılabilir.
      * @param callback Sonuç callback'i
      */
     public void firstAsync(Consumer<Boolean> callback) {
         database.selectByQueryAsync(tableName, this, callback);
     }
 
+    /**
+     * Sorguyu asenkron çalıştırır ve ilk satırı döndürür
+     * @param callback Sonuç callback'i (sonuç yoksa null)
+     */
+    public void firstResultAsync(Consumer<QueryResult> callback) {
+        database.selectFirstByQueryAsync(tableName, this, callback);
+    }
+
+    /**
+     * Sorguyu asenkron çalıştırır ve ilk satırı döndürür
+     * @return Satırla (sonuç yoksa null) tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<QueryResult> firstResultAsync() {
+        return database.selectFirstByQueryAsync(tableName, this);
+    }
+
     /**
      * Sorguyu asenkron çalıştırır ve birden fazla sonuç döndürür
      * @param callback Sonuç callback'i
@@ -50,6 +76,14 @@ public class QueryBuilder {
         database.selectMultipleByQueryAsync(tableName, this, callback);
     }
 
+    /**
+     * Sorguyu asenkron çalıştırır ve birden fazla sonuç döndürür
+     * @return Sonuç listesiyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<List<Map<String, Object>>> getAsync() {
+        return database.selectMultipleByQueryAsync(tableName, this);
+    }
+
     /**
      * Sorguyu asenkron çalıştırır ve sonuç sayısını döndürür
      * @param callback Sonuç callback'i
@@ -58,6 +92,27 @@ public class QueryBuilder {
         database.countByQueryAsync(tableName, this, callback);
     }
 
+    /**
+     * Sorguyu asenkron çalıştırır ve sonuç sayısını döndürür
+     * @return Sonuç sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Integer> countAsync() {
+        return database.countByQueryAsync(tableName, this);
+    }
+
+    /**
+     * Sorguda okunacak sütunları belirler (varsayılan *). Takma adlar ve ifadeler kullanılabilir:
+     * select("id", "ad AS isim", "LENGTH(bio) AS bio_uzunluk"). Sadece gereken sütunlar okunduğu için geniş
+     * tablolarda TEXT sütunları aktarılmaz; seçilen sütunların tümü bir indekste varsa sorgu tabloya
+     * dokunmadan indeksten cevaplanabilir. Sonuç satırları takma adlarla anahtarlanır.
+     * @param columns Sütunlar veya ifadeler, boş ise tüm sütunlar
+     * @return QueryBuilder nesnesi
+     */
+    public QueryBuilder select(String... columns) {
+        selectClause = columns.length == 0 ? "*" : String.join(", ", columns);
+        return this;
+    }
+
     /**
      * Eşitlik koşulu ekler
      * @param columnName Sütun adı
@@ -155,7 +210,7 @@ public class QueryBuilder {
     }
 
     /**
-     * Limit ve ofset ekler
+     * Limit ve ofset ekler. Ofset kadar satır okunup atıldığı için derin sayfalarda {@link #page(String, int)} tercih edilmelidir.
      * @param limit Maksimum kayıt sayısı
      * @param offset Başlangıç offset değeri
      * @return QueryBuilder nesnesi
@@ -166,13 +221,21 @@ public class QueryBuilder {
     }
 
     /**
-     * Sorguyu çalıştırır ve tek bir sonuç döndürür
+     * Sorguyu çalıştırır ve tek bir sonuç döndürür. Satır bu thread için DBManager.getString vb. ile okunur.
      * @return Başarılı ise true
      */
     public boolean first() {
         return database.selectByQuery(tableName, this, true);
     }
 
+    /**
+     * Sorguyu çalıştırır ve ilk satırı kendi sonuç nesnesi olarak döndürür
+     * @return İlk satır, sonuç yoksa null
+     */
+    public QueryResult firstResult() {
+        return database.selectFirstByQuery(tableName, this);
+    }
+
     /**
      * Sorguyu çalıştırır ve birden fazla sonuç döndürür
      * @return Sonuç listesi
@@ -181,6 +244,59 @@ public class QueryBuilder {
         return database.selectMultipleByQuery(tableName, this);
     }
 
+    /**
+     * Sorguyu çalıştırır ve satırları bellekte biriktirmeden, istendikçe okuyan bir akış döndürür.
+     * Akış kapatılana kadar bir bağlantı tutar; try-with-resources ile kullanılmalıdır.
+     * @return Satır akışı, hata durumunda boş akış
+     */
+    public Stream<QueryResult> stream() {
+        return stream(0);
+    }
+
+    /**
+     * Sorguyu verilen fetch size ile akış olarak çalıştırır (bkz. {@link DBManager#streamQuery(int, String, Object...)})
+     * @param fetchSize Sürücüden tek seferde çekilecek satır sayısı, 0 ise veritabanı varsayılanı
+     * @return Satır akışı, hata durumunda boş akış
+     */
+    public Stream<QueryResult> stream(int fetchSize) {
+        return database.streamQuery(fetchSize, buildQuery(false), getParameters(false).toArray());
+    }
+
+    /**
+     * Sorguyu çalıştırır ve satırları verilen record veya POJO sınıfına dönüştürür
+     * (bkz. {@link DBManager#executeQuery(String, Class, Object...)})
+     * @param type Hedef sınıf
+     * @return Nesne listesi, hata durumunda boş liste
+     */
+    public <T> List<T> mapTo(Class<T> type) {
+        return database.executeQuery(buildQuery(false), type, getParameters(false).toArray());
+    }
+
+    /**
+     * Sorguyu asenkron çalıştırır ve satırları verilen sınıfa dönüştürür
+     * @param type Hedef sınıf
+     * @return Nesne listesiyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public <T> CompletableFuture<List<T>> mapToAsync(Class<T> type) {
+        return database.executeQueryAsync(buildQuery(false), type, getParameters(false).toArray());
+    }
+
+    /**
+     * Sorguyu çalıştırır ve sonucu sütun bazlı okur; sayısal sütunlar kutulanmadan primitive dizilere okunur
+     * @return Sütun bazlı sonuç, hata durumunda null
+     */
+    public ColumnarResult fetchColumns() {
+        return database.fetchColumns(buildQuery(false), getParameters(false).toArray());
+    }
+
+    /**
+     * Sorguyu asenkron çalıştırır ve sonucu sütun bazlı okur
+     * @return Sütun bazlı sonuçla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<ColumnarResult> fetchColumnsAsync() {
+        return database.fetchColumnsAsync(buildQuery(false), getParameters(false).toArray());
+    }
+
     /**
      * Sorguyu çalıştırır ve sonuç sayısını döndürür
      * @return Sonuç sayısı
@@ -379,18 +495,216 @@ public class QueryBuilder {
         return this;
     }
 
+    /**
+     * Anahtar bazlı sayfalamada kullanılacak sıralama anahtarını belirler (varsayılan artan "id").
+     * Anahtar sütunları birlikte benzersiz ve NULL olmayan değerler içermelidir; benzersiz olmayan bir sütun
+     * (örn. tarih) için sonuna "id" eklenmelidir.
+     * @param keyColumns Anahtar sütunları
+     * @return QueryBuilder nesnesi
+     */
+    public QueryBuilder keyset(String... keyColumns) {
+        return keyset(true, keyColumns);
+    }
+
+    /**
+     * Anahtar bazlı sayfalamada kullanılacak sıralama anahtarını ve yönünü belirler
+     * @param ascending Artan sıralama için true, azalan için false
+     * @param keyColumns Anahtar sütunları
+     * @return QueryBuilder nesnesi
+     */
+    public QueryBuilder keyset(boolean ascending, String... keyColumns) {
+        if (keyColumns.length == 0) {
+            throw new IllegalArgumentException("Sayfalama için en az bir anahtar sütunu gereklidir");
+        }
+        this.keyColumns = keyColumns.clone();
+        this.keyAscending = ascending;
+        return this;
+    }
+
+    /**
+     * Anahtar bazlı sayfalamanın ilk sayfasını getirir
+     * @param limit Sayfadaki en fazla satır sayısı
+     * @return Sayfa, hata durumunda null
+     */
+    public Page page(int limit) {
+        return page(null, limit);
+    }
+
+    /**
+     * Anahtar bazlı sayfalamayla token'dan sonraki sayfayı getirir. Sorgu OFFSET yerine
+     * WHERE anahtar > son_değer ORDER BY anahtar LIMIT ? şeklinde çalışır, böylece her sayfa indeksten
+     * doğrudan okunur. Builder'daki orderBy ve limit ayarları yok sayılır.
+     * @param token Önceki sayfanın {@link Page#getNextToken()} değeri, ilk sayfa için null
+     * @param limit Sayfadaki en fazla satır sayısı
+     * @return Sayfa, hata durumunda veya token geçersizse null
+     */
+    public Page page(String token, int limit) {
+        try {
+            return pageChecked(token, limit);
+        } catch (SQLException e) {
+            System.err.println("Keyset pagination error: " + e.getMessage());
+            return null;
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid keyset page request: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Anahtar bazlı sayfalamayla token'dan sonraki sayfayı asenkron getirir
+     * @param token Önceki sayfanın token'ı, ilk sayfa için null
+     * @param limit Sayfadaki en fazla satır sayısı
+     * @return Sayfayla tamamlanan future, hata durumunda SQLException, token geçersizse
+     * IllegalArgumentException ile tamamlanır
+     */
+    public CompletableFuture<Page> pageAsync(String token, int limit) {
+        return database.supplyAsync(() -> pageChecked(token, limit));
+    }
+
+    /**
+     * Sorguyu anahtar sırasıyla sayfa sayfa dolaşan, sonraki sayfaları önceden getiren bir iterator döndürür.
+     * Tarama ilk hasNext/next çağrısında başlar; yarıda bırakılacaksa kapatılmalıdır.
+     * @param pageSize Sayfadaki en fazla satır sayısı
+     * @return Sayfa iterator'ı
+     * @throws IllegalArgumentException Sayfa boyutu 1'den küçükse
+     */
+    public PageIterator scan(int pageSize) {
+        return new PageIterator(this, pageSize);
+    }
+
+    /**
+     * Anahtar bazlı sayfayı getirir, hata durumunda istisna fırlatır
+     * @return Sayfa
+     * @throws SQLException Veritabanı hatasında veya anahtar değeri NULL ise
+     * @throws IllegalArgumentException Token geçersizse veya sayfa boyutu 1'den küçükse
+     */
+    Page pageChecked(String token, int limit) throws SQLException {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Sayfa boyutu en az 1 olmalıdır");
+        }
+        Object[] after = token != null ? Page.decodeToken(token, keyColumns.length) : null;
+
+        List<Object> params = new ArrayList<>(parameters);
+        String keyCondition = after != null ? buildKeyCondition(after, params) : null;
+        // Seçimdeki bir takma ad anahtarla aynı adı taşıyabilir (created_at AS id); sıralama iç takma adla yapılır
+        StringBuilder order = new StringBuilder(" ORDER BY ");
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                order.append(", ");
+            }
+            order.append(KEY_ALIAS_PREFIX).append(i).append(keyAscending ? " ASC" : " DESC");
+        }
+        if (!groupByClause.isEmpty() && !havingClause.isEmpty()) {
+            params.addAll(havingParameters);
+        }
+        // Sonraki sayfanın olup olmadığını anlamak için bir satır fazla okunur
+        params.add(limit + 1);
+
+        String sql = buildQuery(false, pageSelectClause(), keyCondition, order.toString(), " LIMIT ?");
+        List<Map<String, Object>> rows = database.executeQueryChecked(sql, params.toArray());
+        String nextToken = null;
+        if (rows.size() > limit) {
+            rows.remove(limit);
+            nextToken = Page.encodeToken(keyValues(rows.get(limit - 1)));
+        }
+        for (Map<String, Object> row : rows) {
+            for (int i = 0; i < keyColumns.length; i++) {
+                row.remove(KEY_ALIAS_PREFIX + i);
+            }
+        }
+        return new Page(rows, nextToken);
+    }
+
+    /**
+     * Son anahtar değerlerinden sonraki satırları seçen koşulu oluşturur ve parametrelerini ekler.
+     * SQLite'ta satır değeri karşılaştırması, MySQL'de range erişimi kullanılabilsin diye açık OR biçimi üretilir.
+     */
+    private String buildKeyCondition(Object[] after, List<Object> params) {
+        String operator = keyAscending ? " > " : " < ";
+        if (keyColumns.length == 1) {
+            params.add(after[0]);
+            return keyColumns[0] + operator + "?";
+        }
+
+        StringBuilder condition = new StringBuilder();
+        if (database.getDatabaseType() == DBManager.DatabaseType.SQLITE) {
+            condition.append("(").append(String.join(", ", keyColumns)).append(")").append(operator).append("(");
+            for (int i = 0; i < keyColumns.length; i++) {
+                condition.append(i > 0 ? ", ?" : "?");
+                params.add(after[i]);
+            }
+            return condition.append(")").toString();
+        }
+
+        // (a > ? OR (a = ? AND b > ?) OR ...)
+        condition.append("(");
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                condition.append(" OR ");
+            }
+            condition.append("(");
+            for (int j = 0; j < i; j++) {
+                condition.append(keyColumns[j]).append(" = ? AND ");
+                params.add(after[j]);
+            }
+            condition.append(keyColumns[i]).append(operator).append("?)");
+            params.add(after[i]);
+        }
+        return condition.append(")").toString();
+    }
+
+    /**
+     * Sayfa sorgusunun sütunları: anahtar sütunları, seçimdeki sütunlarla karışmasın diye iç takma adlarla
+     * ({@value #KEY_ALIAS_PREFIX}0, ...) ayrıca okunur
+     */
+    private String pageSelectClause() {
+        StringBuilder clause = new StringBuilder(selectClause);
+        for (int i = 0; i < keyColumns.length; i++) {
+            clause.append(", ").append(keyColumns[i]).append(" AS ").append(KEY_ALIAS_PREFIX).append(i);
+        }
+        return clause.toString();
+    }
+
+    /**
+     * Satırın anahtar değerlerini iç takma adlardan okur ve bu sütunları satırdan kaldırır
+     */
+    private Object[] keyValues(Map<String, Object> row) throws SQLException {
+        Object[] values = new Object[keyColumns.length];
+        for (int i = 0; i < keyColumns.length; i++) {
+            values[i] = row.remove(KEY_ALIAS_PREFIX + i);
+            if (values[i] == null) {
+                throw new SQLException("Keyset column is NULL: " + keyColumns[i]);
+            }
+        }
+        return values;
+    }
+
     /**
      * SQL sorgusunu oluşturur (JOIN, GROUP BY ve HAVING destekli)
      * @param selectCount Count sorgusu için true
      * @return SQL sorgusu
      */
     public String buildQuery(boolean selectCount) {
+        return buildQuery(selectCount, selectClause, null, orderByClause, limitClause);
+    }
+
+    /**
+     * SQL sorgusunu verilen sütunlar, ek koşul, sıralama ve limitle oluşturur
+     * @param selectCount Count sorgusu için true
+     * @param selectClause Okunacak sütunlar
+     * @param keyCondition WHERE koşuluna AND ile eklenecek anahtar koşulu, yoksa null
+     * @param orderByClause ORDER BY ifadesi
+     * @param limitClause LIMIT ifadesi
+     * @return SQL sorgusu
+     */
+    private String buildQuery(boolean selectCount, String selectClause, String keyCondition, String orderByClause,
+                              String limitClause) {
         StringBuilder query = new StringBuilder();
 
         if (selectCount) {
             query.append("SELECT COUNT(*) FROM ");
         } else {
-            query.append("SELECT * FROM ");
+            query.append("SELECT ").append(selectClause).append(" FROM ");
         }
 
         query.append(tableName);
@@ -400,8 +714,14 @@ public class QueryBuilder {
             query.append(joinClause);
         }
         
-        // Where ifadesini ekle
-        if (whereClause.length() > 0) {
+        // Where ifadesini ekle; anahtar koşulu OR içeren koşullarla karışmasın diye parantez içine alınır
+        if (keyCondition != null) {
+            query.append(" WHERE ");
+            if (whereClause.length() > 0) {
+                query.append("(").append(whereClause).append(") AND ");
+            }
+            query.append(keyCondition);
+        } else if (whereClause.length() > 0) {
             query.append(" WHERE ").append(whereClause);
         }
 
@@ -409,12 +729,9 @@ public class QueryBuilder {
         if (!selectCount && !groupByClause.isEmpty()) {
             query.append(groupByClause);
             
-            // Having ifadesini ekle (sadece Group By varsa)
+            // Having ifadesini ekle (sadece Group By varsa), parametreleri getParameters ekler
             if (!havingClause.isEmpty()) {
                 query.append(havingClause);
-                
-                // Having parametrelerini ekle
-                parameters.addAll(havingParameters);
             }
         }
         
@@ -436,7 +753,21 @@ public class QueryBuilder {
      * @return Parametre listesi
      */
     public List<Object> getParameters() {
-        return parameters;
+        return getParameters(false);
+    }
+
+    /**
+     * buildQuery ile aynı sırada sorgu parametrelerini döndürür.
+     * Builder değiştirilmez, böylece aynı sorgu tekrar tekrar çalıştırılabilir.
+     * @param selectCount Count sorgusu için true
+     * @return Parametre listesi
+     */
+    List<Object> getParameters(boolean selectCount) {
+        List<Object> result = new ArrayList<>(parameters);
+        if (!selectCount && !groupByClause.isEmpty() && !havingClause.isEmpty()) {
+            result.addAll(havingParameters);
+        }
+        return result;
     }
 
     /**
@@ -453,11 +784,14 @@ public class QueryBuilder {
      * @param callback Sonuç callback'i
      */
     public void getResultsAsync(Consumer<List<QueryResult>> callback) {
-        database.getExecutorService().submit(() -> {
-            List<QueryResult> results = getResults();
-            if (callback != null) {
-                callback.accept(results);
-            }
-        });
+        database.runAsync(() -> getResults(), callback);
+    }
+
+    /**
+     * Sorguyu asenkron çalıştırır ve sonuçları QueryResult listesi olarak döndürür
+     * @return QueryResult listesiyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<List<QueryResult>> getResultsAsync() {
+        return getAsync().thenApply(QueryResult::fromList);
     }
 }
\ No newline at end of file
@@ -48,8 +48,7 @@ public class QueryResult {
      * @return Değer
      */
     public String getString(String key, String defaultValue) {
-        Object value = data.get(key);
-        return value != null ? value.toString() : defaultValue;
+        return toString(data.get(key), defaultValue);
     }
 
     /**
@@ -68,7 +67,10 @@ public class QueryResult {
      * @return Değer
      */
     public int getInt(String key, int defaultValue) {
-        Object value = data.get(key);
+        return toInt(data.get(key), defaultValue);
+    }
+
+    private static int toInt(Object value, int defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Number) {
@@ -98,7 +100,10 @@ public class QueryResult {
      * @return Değer
      */
     public long getLong(String key, long defaultValue) {
-        Object value = data.get(key);
+        return toLong(data.get(key), defaultValue);
+    }
+
+    private static long toLong(Object value, long defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Number) {
@@ -128,7 +133,10 @@ public class QueryResult {
      * @return Değer
      */
     public double getDouble(String key, double defaultValue) {
-        Object value = data.get(key);
+        return toDouble(data.get(key), defaultValue);
+    }
+
+    private static double toDouble(Object value, double defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Number) {
@@ -158,7 +166,10 @@ public class QueryResult {
      * @return Değer
      */
     public boolean getBoolean(String key, boolean defaultValue) {
-        Object value = data.get(key);
+        return toBoolean(data.get(key), defaultValue);
+    }
+
+    private static boolean toBoolean(Object value, boolean defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Boolean) {
@@ -187,7 +198,10 @@ public class QueryResult {
      * @return Değer
      */
     public Date getDate(String key, Date defaultValue) {
-        Object value = data.get(key);
+        return toDate(data.get(key), defaultValue);
+    }
+
+    private static Date toDate(Object value, Date defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Date) {
@@ -201,6 +215,103 @@ public class QueryResult {
         return defaultValue;
     }
 
+    /**
+     * Sütun adının sonuçtaki sırasını döndürür. Döngülerde bir kez alınıp index ile okumak
+     * satır başına ad araması yapmaz.
+     * @param key Sütun adı
+     * @return 0 tabanlı sıra, sütun yoksa -1
+     */
+    public int getColumnIndex(String key) {
+        if (data instanceof ResultRow) {
+            return ((ResultRow) data).getColumns().indexOf(key);
+        }
+        int index = 0;
+        for (String column : data.keySet()) {
+            if (column.equals(key)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Sütun sırasıyla ham değeri döndürür. Sorgu sonuçlarında sıra SELECT'teki sıradır,
+     * elle oluşturulan sonuçlarda map'in dolaşma sırasıdır.
+     * @param index 0 tabanlı sütun sırası
+     * @return Değer
+     */
+    public Object getObject(int index) {
+        if (data instanceof ResultRow) {
+            return ((ResultRow) data).getValue(index);
+        }
+        int position = 0;
+        for (Object value : data.values()) {
+            if (position++ == index) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Column index: " + index);
+    }
+
+    /**
+     * String değeri sütun sırasıyla döndürür
+     * @param index 0 tabanlı sütun sırası
+     * @return Değer, null ise boş metin
+     */
+    public String getString(int index) {
+        return toString(getObject(index), "");
+    }
+
+    /**
+     * Integer değeri sütun sırasıyla döndürür
+     * @param index 0 tabanlı sütun sırası
+     * @return Değer, null ise 0
+     */
+    public int getInt(int index) {
+        return toInt(getObject(index), 0);
+    }
+
+    /**
+     * Long değeri sütun sırasıyla döndürür
+     * @param index 0 tabanlı sütun sırası
+     * @return Değer, null ise 0
+     */
+    public long getLong(int index) {
+        return toLong(getObject(index), 0L);
+    }
+
+    /**
+     * Double değeri sütun sırasıyla döndürür
+     * @param index 0 tabanlı sütun sırası
+     * @return Değer, null ise 0.0
+     */
+    public double getDouble(int index) {
+        return toDouble(getObject(index), 0.0);
+    }
+
+    /**
+     * Boolean değeri sütun sırasıyla döndürür
+     * @param index 0 tabanlı sütun sırası
+     * @return Değer, null ise false
+     */
+    public boolean getBoolean(int index) {
+        return toBoolean(getObject(index), false);
+    }
+
+    /**
+     * Date değeri sütun sırasıyla döndürür
+     * @param index 0 tabanlı sütun sırası
+     * @return Değer, null ise null
+     */
+    public Date getDate(int index) {
+        return toDate(getObject(index), null);
+    }
+
+    private static String toString(Object value, String defaultValue) {
+        return value != null ? value.toString() : defaultValue;
+    }
+
     /**
      * Değerin var olup olmadığını kontrol eder
      * @param key Sütun adı
@@ -219,7 +330,7 @@ public class QueryResult {
     }
     
     /**
-     * Tüm veriyi döndürür
+     * Tüm veriyi döndürür. Sorgu sonuçlarında satırın paylaşılan sütun tablosu üzerindeki map görünümüdür.
      * @return Veri haritası
      */
     public Map<String, Object> getData() {
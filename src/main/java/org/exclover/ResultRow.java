@@ -0,0 +1,316 @@
+package org.exclover;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Sorgu sonucunun tek bir satırı. Sütun adları sonucun tüm satırlarının paylaştığı tek bir
+ * {@link Columns} tablosunda, değerler satır başına bir Object[] içinde tutulur; satır başına
+ * HashMap ve entry nesneleri oluşturulmaz. Map olarak okunur ve değiştirilebilir, sonuçta olmayan
+ * anahtarlar ayrı bir haritada saklanır. Sütunlar sorgudaki sırayla dolaşılır.
+ */
+class ResultRow extends AbstractMap<String, Object> {
+
+    // Map'ten kaldırılan sütunları işaretler
+    private static final Object REMOVED = new Object();
+
+    /**
+     * Bir sonucun sütun adı - sütun sırası tablosu, tüm satırlar tarafından paylaşılır
+     */
+    static final class Columns {
+        private final String[] names;
+        private final Map<String, Integer> positions;
+
+        private Columns(String[] names) {
+            this.names = names;
+            this.positions = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                // Aynı adlı sütunlarda (örn. JOIN) önceki davranış gibi sonuncusu geçerlidir
+                positions.put(names[i], i);
+            }
+        }
+
+        /**
+         * Sütun adlarını ResultSet meta verisinden bir kez okur. Takma adı olan sütunlar takma adıyla anahtarlanır
+         * (MySQL getColumnName takma ad yerine asıl sütun adını döndürür).
+         * @param metaData Sonuç meta verisi
+         * @return Sütun tablosu
+         * @throws SQLException Meta veri okunamazsa
+         */
+        static Columns of(ResultSetMetaData metaData) throws SQLException {
+            String[] names = new String[metaData.getColumnCount()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = metaData.getColumnLabel(i + 1);
+            }
+            return new Columns(names);
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        /**
+         * Sütunun sırasını döndürür
+         * @param name Sütun adı
+         * @return 0 tabanlı sıra, sütun yoksa -1
+         */
+        int indexOf(Object name) {
+            Integer position = positions.get(name);
+            return position != null ? position : -1;
+        }
+
+        /**
+         * Sütun aynı adlı başka bir sütunla gölgelenmemişse true
+         */
+        private boolean isVisible(int index) {
+            return positions.get(names[index]) == index;
+        }
+    }
+
+    private final Columns columns;
+    private final Object[] values;
+    private Map<String, Object> extra;
+
+    /**
+     * ResultRow constructor
+     * @param columns Paylaşılan sütun tablosu
+     * @param values Sütun sırasıyla değerler
+     */
+    ResultRow(Columns columns, Object[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * ResultSet'in geçerli satırını okur
+     * @param columns ResultSet'in sütun tablosu
+     * @param rs Açık ResultSet
+     * @return Satır
+     * @throws SQLException Okuma hatasında
+     */
+    static ResultRow read(Columns columns, ResultSet rs) throws SQLException {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rs.getObject(i + 1);
+        }
+        return new ResultRow(columns, values);
+    }
+
+    /**
+     * ResultSet'in kalan tüm satırlarını okur; meta veri bir kez okunur
+     * @param rs Açık ResultSet
+     * @return Satır listesi
+     * @throws SQLException Okuma hatasında
+     */
+    static List<Map<String, Object>> readAll(ResultSet rs) throws SQLException {
+        Columns columns = Columns.of(rs.getMetaData());
+        List<Map<String, Object>> rows = new ArrayList<>();
+        while (rs.next()) {
+            rows.add(read(columns, rs));
+        }
+        return rows;
+    }
+
+    /**
+     * Sütun tablosunu döndürür
+     * @return Sütun tablosu
+     */
+    Columns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Sütun sırasıyla değeri döndürür
+     * @param index 0 tabanlı sütun sırası
+     * @return Değer, sütun map'ten kaldırıldıysa null
+     */
+    Object getValue(int index) {
+        Object value = values[index];
+        return value == REMOVED ? null : value;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = columns.indexOf(key);
+        if (index >= 0) {
+            return getValue(index);
+        }
+        return extra != null ? extra.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = columns.indexOf(key);
+        if (index >= 0) {
+            return values[index] != REMOVED;
+        }
+        return extra != null && extra.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = columns.indexOf(key);
+        if (index >= 0) {
+            Object previous = getValue(index);
+            values[index] = value;
+            return previous;
+        }
+        if (extra == null) {
+            extra = new LinkedHashMap<>();
+        }
+        return extra.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = columns.indexOf(key);
+        if (index >= 0) {
+            Object previous = getValue(index);
+            values[index] = REMOVED;
+            return previous;
+        }
+        return extra != null ? extra.remove(key) : null;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != REMOVED && columns.isVisible(i)) {
+                size++;
+            }
+        }
+        return extra != null ? size + extra.size() : size;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return ResultRow.this.size();
+            }
+        };
+    }
+
+    /**
+     * Önce sütunları sorgu sırasıyla, sonra sonradan eklenen anahtarları dolaşır
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private int nextIndex = advance(0);
+        private int lastIndex = -1;
+        private Iterator<Map.Entry<String, Object>> extraIterator;
+
+        private int advance(int from) {
+            int index = from;
+            while (index < values.length && (values[index] == REMOVED || !columns.isVisible(index))) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextIndex < values.length) {
+                return true;
+            }
+            if (extraIterator == null && extra != null) {
+                extraIterator = extra.entrySet().iterator();
+            }
+            return extraIterator != null && extraIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nextIndex < values.length) {
+                int index = nextIndex;
+                lastIndex = index;
+                nextIndex = advance(index + 1);
+                return new ColumnEntry(index);
+            }
+            lastIndex = -1;
+            return extraIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex >= 0) {
+                values[lastIndex] = REMOVED;
+                lastIndex = -1;
+            } else if (extraIterator != null) {
+                extraIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    /**
+     * Değeri doğrudan satır dizisine yazan entry
+     */
+    private final class ColumnEntry implements Map.Entry<String, Object> {
+        private final int index;
+
+        ColumnEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return columns.names[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return ResultRow.this.getValue(index);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object previous = getValue();
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            Object value = getValue();
+            return getKey().equals(other.getKey()) &&
+                    (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
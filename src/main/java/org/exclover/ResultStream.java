@@ -0,0 +1,111 @@
+package org.exclover;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Açık bir ResultSet üzerinde satırları birer birer okuyan imleç.
+ * Satırlar istendikçe sürücüden çekilir, sonuç bellekte biriktirilmez.
+ * Statement, ResultSet ve ödünç alınan bağlantı imleç kapatıldığında, sonuna gelindiğinde
+ * veya okuma hatasında serbest bırakılır.
+ */
+class ResultStream implements Iterator<QueryResult>, AutoCloseable {
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    // Bağlantıyı havuza geri veren işlem (transaction bağlantısında null)
+    private final Runnable releaser;
+    private final ResultRow.Columns columns;
+    private boolean fetched;
+    private boolean hasRow;
+    private boolean closed;
+
+    /**
+     * ResultStream constructor
+     * @param statement Sadece bu imleç için hazırlanmış statement
+     * @param resultSet Açık sonuç kümesi
+     * @param releaser Kapanışta bağlantıyı geri veren işlem, yoksa null
+     * @throws SQLException Sütun bilgisi okunamazsa
+     */
+    ResultStream(PreparedStatement statement, ResultSet resultSet, Runnable releaser) throws SQLException {
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.releaser = releaser;
+        this.columns = ResultRow.Columns.of(resultSet.getMetaData());
+    }
+
+    /**
+     * İmleci kapanınca kaynakları serbest bırakan sıralı bir Stream olarak döndürür
+     * @return Satır akışı
+     */
+    Stream<QueryResult> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (!fetched) {
+            try {
+                hasRow = resultSet.next();
+            } catch (SQLException e) {
+                close();
+                throw new IllegalStateException("Stream read error: " + e.getMessage(), e);
+            }
+            fetched = true;
+            if (!hasRow) {
+                close();
+            }
+        }
+        return hasRow;
+    }
+
+    @Override
+    public QueryResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fetched = false;
+        try {
+            return new QueryResult(ResultRow.read(columns, resultSet));
+        } catch (SQLException e) {
+            close();
+            throw new IllegalStateException("Stream read error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * ResultSet ve statement'ı kapatır, bağlantıyı geri verir. Birden fazla çağrılabilir.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        hasRow = false;
+        try {
+            resultSet.close();
+        } catch (SQLException e) {
+            System.err.println("Stream close error: " + e.getMessage());
+        }
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Stream close error: " + e.getMessage());
+        }
+        if (releaser != null) {
+            releaser.run();
+        }
+    }
+}
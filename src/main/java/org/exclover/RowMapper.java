@@ -0,0 +1,391 @@
+package org.exclover;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sonuç satırlarını record veya POJO nesnelerine dönüştürür.
+ * Eşleme bir sınıf ve sütun listesi için bir kez kurulur ve önbelleğe alınır: sütunlar sırayla bağlanır,
+ * değerler tipine uygun ResultSet getter'ı ile okunup MethodHandle üzerinden doğrudan constructor'a veya
+ * alanlara yazılır. Satır başına map, ad araması veya reflection yapılmaz.
+ * Sütun adları büyük/küçük harf ve alt çizgi gözetmeden eşlenir (user_name = userName).
+ * Record'larda kanonik constructor, diğer sınıflarda parametresiz constructor ve final olmayan alanlar kullanılır.
+ */
+final class RowMapper<T> {
+
+    // Sınıf başına, sütun listesine göre anahtarlanmış eşleyiciler
+    private static final ClassValue<ConcurrentMap<String, RowMapper<?>>> CACHE =
+            new ClassValue<ConcurrentMap<String, RowMapper<?>>>() {
+                @Override
+                protected ConcurrentMap<String, RowMapper<?>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Tek bir sütunu okuyup hedefe yazan bağlayıcı
+     */
+    private interface Binder {
+        void bind(Object target, ResultSet rs) throws Throwable;
+    }
+
+    /**
+     * Tek bir sütunu hedef tipte okuyan okuyucu (record constructor argümanları için)
+     */
+    private interface Reader {
+        Object read(ResultSet rs) throws SQLException;
+    }
+
+    private final Class<T> type;
+    // POJO: parametresiz constructor () -> Object; record: yayılmış constructor (Object[]) -> Object
+    private final MethodHandle constructor;
+    private final Binder[] binders;
+    private final Reader[] readers;
+
+    private RowMapper(Class<T> type, MethodHandle constructor, Binder[] binders, Reader[] readers) {
+        this.type = type;
+        this.constructor = constructor;
+        this.binders = binders;
+        this.readers = readers;
+    }
+
+    /**
+     * Sonucun sütunlarına göre eşleyiciyi önbellekten döndürür, yoksa kurar
+     * @param type Hedef sınıf
+     * @param metaData Sonuç meta verisi
+     * @return Eşleyici
+     * @throws SQLException Sınıf eşlenemezse
+     */
+    @SuppressWarnings("unchecked")
+    static <T> RowMapper<T> of(Class<T> type, ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] columns = new String[columnCount];
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = metaData.getColumnLabel(i + 1);
+            key.append(columns[i]).append('\u0000');
+        }
+
+        ConcurrentMap<String, RowMapper<?>> mappers = CACHE.get(type);
+        RowMapper<?> mapper = mappers.get(key.toString());
+        if (mapper == null) {
+            mapper = create(type, columns);
+            RowMapper<?> existing = mappers.putIfAbsent(key.toString(), mapper);
+            if (existing != null) {
+                mapper = existing;
+            }
+        }
+        return (RowMapper<T>) mapper;
+    }
+
+    /**
+     * ResultSet'in kalan tüm satırlarını eşler
+     * @param type Hedef sınıf
+     * @param rs Açık ResultSet
+     * @return Nesne listesi
+     * @throws SQLException Okuma veya eşleme hatasında
+     */
+    static <T> List<T> mapAll(Class<T> type, ResultSet rs) throws SQLException {
+        RowMapper<T> mapper = of(type, rs.getMetaData());
+        List<T> result = new ArrayList<>();
+        while (rs.next()) {
+            result.add(mapper.map(rs));
+        }
+        return result;
+    }
+
+    /**
+     * ResultSet'in geçerli satırını nesneye dönüştürür
+     * @param rs Geçerli satırda konumlanmış ResultSet
+     * @return Nesne
+     * @throws SQLException Okuma veya eşleme hatasında
+     */
+    T map(ResultSet rs) throws SQLException {
+        try {
+            if (readers != null) {
+                Object[] args = new Object[readers.length];
+                for (int i = 0; i < readers.length; i++) {
+                    args[i] = readers[i].read(rs);
+                }
+                return type.cast((Object) constructor.invokeExact(args));
+            }
+            Object target = (Object) constructor.invokeExact();
+            for (Binder binder : binders) {
+                binder.bind(target, rs);
+            }
+            return type.cast(target);
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SQLException("Row mapping failed for " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> RowMapper<T> create(Class<T> type, String[] columns) throws SQLException {
+        Map<String, Integer> columnIndex = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            // Aynı adlı sütunlarda sonuncusu geçerlidir
+            columnIndex.put(normalize(columns[i]), i + 1);
+        }
+        try {
+            Object[] components = recordComponents(type);
+            if (components != null) {
+                return createRecordMapper(type, components, columnIndex);
+            }
+            return createBeanMapper(type, columnIndex);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new SQLException("Cannot map rows to " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> RowMapper<T> createRecordMapper(Class<T> type, Object[] components,
+                                                       Map<String, Integer> columnIndex) throws ReflectiveOperationException {
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        Reader[] readers = new Reader[components.length];
+        Method getName = components.getClass().getComponentType().getMethod("getName");
+        Method getType = components.getClass().getComponentType().getMethod("getType");
+        for (int i = 0; i < components.length; i++) {
+            String name = (String) getName.invoke(components[i]);
+            Class<?> componentType = (Class<?>) getType.invoke(components[i]);
+            parameterTypes[i] = componentType;
+            Integer column = columnIndex.get(normalize(name));
+            readers[i] = column != null ? reader(componentType, column) : constant(defaultValue(componentType));
+        }
+
+        Constructor<T> canonical = type.getDeclaredConstructor(parameterTypes);
+        canonical.setAccessible(true);
+        MethodHandle constructor = LOOKUP.unreflectConstructor(canonical)
+                .asType(MethodType.methodType(Object.class, parameterTypes))
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new RowMapper<>(type, constructor, null, readers);
+    }
+
+    private static <T> RowMapper<T> createBeanMapper(Class<T> type, Map<String, Integer> columnIndex)
+            throws ReflectiveOperationException {
+        Constructor<T> noArgs = type.getDeclaredConstructor();
+        noArgs.setAccessible(true);
+        MethodHandle constructor = LOOKUP.unreflectConstructor(noArgs).asType(MethodType.methodType(Object.class));
+
+        List<Binder> binders = new ArrayList<>();
+        List<String> bound = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                String name = normalize(field.getName());
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic() || bound.contains(name)) {
+                    continue;
+                }
+                Integer column = columnIndex.get(name);
+                if (column != null) {
+                    field.setAccessible(true);
+                    binders.add(binder(field.getType(), column, LOOKUP.unreflectSetter(field)));
+                    // Alt sınıftaki alan üst sınıftakini gizler
+                    bound.add(name);
+                }
+            }
+        }
+        return new RowMapper<>(type, constructor, binders.toArray(new Binder[0]), null);
+    }
+
+    /**
+     * Primitive alanlar kutulanmadan, tipine uygun getter ile okunup invokeExact ile yazılır
+     */
+    private static Binder binder(Class<?> fieldType, int column, MethodHandle setter) {
+        if (fieldType == int.class) {
+            MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            return (target, rs) -> {
+                handle.invokeExact(target, rs.getInt(column));
+            };
+        }
+        if (fieldType == long.class) {
+            MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            return (target, rs) -> {
+                handle.invokeExact(target, rs.getLong(column));
+            };
+        }
+        if (fieldType == double.class) {
+            MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            return (target, rs) -> {
+                handle.invokeExact(target, rs.getDouble(column));
+            };
+        }
+        if (fieldType == boolean.class) {
+            MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            return (target, rs) -> {
+                handle.invokeExact(target, rs.getBoolean(column));
+            };
+        }
+        MethodHandle handle = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        Reader reader = reader(fieldType, column);
+        // Sonuç kullanılmadığında invokeExact void dönüş tipiyle çağrılır
+        return (target, rs) -> {
+            handle.invokeExact(target, reader.read(rs));
+        };
+    }
+
+    /**
+     * Sütunu hedef tipe uygun getter ile okuyan okuyucu; NULL değerler primitive tiplerde varsayılan değer olur
+     */
+    private static Reader reader(Class<?> targetType, int column) {
+        if (targetType == int.class || targetType == Integer.class) {
+            boolean primitive = targetType.isPrimitive();
+            return rs -> {
+                int value = rs.getInt(column);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        }
+        if (targetType == long.class || targetType == Long.class) {
+            boolean primitive = targetType.isPrimitive();
+            return rs -> {
+                long value = rs.getLong(column);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        }
+        if (targetType == double.class || targetType == Double.class) {
+            boolean primitive = targetType.isPrimitive();
+            return rs -> {
+                double value = rs.getDouble(column);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        }
+        if (targetType == float.class || targetType == Float.class) {
+            boolean primitive = targetType.isPrimitive();
+            return rs -> {
+                float value = rs.getFloat(column);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        }
+        if (targetType == short.class || targetType == Short.class) {
+            boolean primitive = targetType.isPrimitive();
+            return rs -> {
+                short value = rs.getShort(column);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        }
+        if (targetType == byte.class || targetType == Byte.class) {
+            boolean primitive = targetType.isPrimitive();
+            return rs -> {
+                byte value = rs.getByte(column);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        }
+        if (targetType == boolean.class || targetType == Boolean.class) {
+            boolean primitive = targetType.isPrimitive();
+            return rs -> {
+                boolean value = rs.getBoolean(column);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        }
+        if (targetType == String.class) {
+            return rs -> rs.getString(column);
+        }
+        if (targetType == BigDecimal.class) {
+            return rs -> rs.getBigDecimal(column);
+        }
+        if (targetType == java.sql.Timestamp.class) {
+            return rs -> rs.getTimestamp(column);
+        }
+        if (targetType == java.sql.Date.class) {
+            return rs -> rs.getDate(column);
+        }
+        if (targetType == java.util.Date.class) {
+            return rs -> {
+                java.sql.Timestamp value = rs.getTimestamp(column);
+                return value != null ? new java.util.Date(value.getTime()) : null;
+            };
+        }
+        if (targetType.isEnum()) {
+            return rs -> {
+                String value = rs.getString(column);
+                return value != null ? enumValue(targetType, value) : null;
+            };
+        }
+        return rs -> {
+            Object value = rs.getObject(column);
+            if (value == null || targetType.isInstance(value)) {
+                return value;
+            }
+            throw new SQLException("Column " + column + " (" + value.getClass().getName() + ") cannot be mapped to " +
+                    targetType.getName());
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(Class<?> enumType, String value) {
+        return Enum.valueOf((Class) enumType, value);
+    }
+
+    private static Reader constant(Object value) {
+        return rs -> value;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Record bileşenlerini döndürür (Java 16+; daha eski sürümlerde ve record olmayan sınıflarda null)
+     */
+    private static Object[] recordComponents(Class<?> type) throws ReflectiveOperationException {
+        Method isRecord;
+        try {
+            isRecord = Class.class.getMethod("isRecord");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (!(Boolean) isRecord.invoke(type)) {
+            return null;
+        }
+        return (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+    }
+
+    /**
+     * Sütun ve alan adlarını karşılaştırma için sadeleştirir: user_name, USER_NAME ve userName eşleşir
+     */
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,8 @@
 package org.exclover;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -8,6 +11,7 @@ import java.util.function.Consumer;
 public class TableBuilder {
     private final DBManager database;
     private final String tableName;
+    private final Map<String, DBManager.ColumnDefinition> columns = new LinkedHashMap<>();
 
     /**
      * TableBuilder constructor
@@ -25,7 +29,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addString(String columnName) {
-        database.addColumn(columnName, "VARCHAR(255)", null);
+        addColumnDefinition(columnName, "VARCHAR(255)", null, null);
         return this;
     }
 
@@ -36,7 +40,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addString(String columnName, int length) {
-        database.addColumn(columnName, "VARCHAR(" + length + ")", null);
+        addColumnDefinition(columnName, "VARCHAR(" + length + ")", null, null);
         return this;
     }
 
@@ -46,7 +50,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addInteger(String columnName) {
-        database.addColumn(columnName, "INTEGER", null);
+        addColumnDefinition(columnName, "INTEGER", null, null);
         return this;
     }
 
@@ -56,7 +60,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addDouble(String columnName) {
-        database.addColumn(columnName, "REAL", null);
+        addColumnDefinition(columnName, "REAL", null, null);
         return this;
     }
 
@@ -66,7 +70,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addBoolean(String columnName) {
-        database.addColumn(columnName, "BOOLEAN", null);
+        addColumnDefinition(columnName, "BOOLEAN", null, null);
         return this;
     }
 
@@ -76,7 +80,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addText(String columnName) {
-        database.addColumn(columnName, "TEXT", null);
+        addColumnDefinition(columnName, "TEXT", null, null);
         return this;
     }
 
@@ -86,7 +90,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addDate(String columnName) {
-        database.addColumn(columnName, "DATE", null);
+        addColumnDefinition(columnName, "DATE", null, null);
         return this;
     }
 
@@ -96,7 +100,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addTimestamp(String columnName) {
-        database.addColumn(columnName, "TIMESTAMP", null);
+        addColumnDefinition(columnName, "TIMESTAMP", null, null);
         return this;
     }
 
@@ -108,7 +112,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addColumn(String columnName, String type, String constraints) {
-        database.addColumn(columnName, type, constraints);
+        addColumnDefinition(columnName, type, constraints, null);
         return this;
     }
 
@@ -117,7 +121,7 @@ public class TableBuilder {
      * @return Database nesnesi
      */
     public DBManager create() {
-        database.createTable(tableName, false);
+        database.createTable(tableName, columns.values(), false);
         return database;
     }
 
@@ -126,7 +130,7 @@ public class TableBuilder {
      * @return Database nesnesi
      */
     public DBManager createOrReplace() {
-        database.createTable(tableName, true);
+        database.createTable(tableName, columns.values(), true);
         return database;
     }
 
@@ -135,25 +139,41 @@ public class TableBuilder {
      * @param callback Sonuç callback'i
      */
     public void createAsync(Consumer<DBManager> callback) {
-        database.createTableAsync(tableName, false, result -> {
+        database.createTableAsync(tableName, columns.values(), false, result -> {
             if (callback != null) {
                 callback.accept(database);
             }
         });
     }
 
+    /**
+     * Tabloyu asenkron olarak oluşturur
+     * @return Database nesnesiyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<DBManager> createAsync() {
+        return database.createTableAsync(tableName, columns.values(), false).thenApply(result -> database);
+    }
+
     /**
      * Tabloyu asenkron olarak oluşturur (varsa siler)
      * @param callback Sonuç callback'i
      */
     public void createOrReplaceAsync(Consumer<DBManager> callback) {
-        database.createTableAsync(tableName, true, result -> {
+        database.createTableAsync(tableName, columns.values(), true, result -> {
             if (callback != null) {
                 callback.accept(database);
             }
         });
     }
 
+    /**
+     * Tabloyu asenkron olarak oluşturur (varsa siler)
+     * @return Database nesnesiyle tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<DBManager> createOrReplaceAsync() {
+        return database.createTableAsync(tableName, columns.values(), true).thenApply(result -> database);
+    }
+
     /**
      * String tipinde varsayılan değerli sütun tanımlar
      * @param columnName Sütun adı
@@ -161,7 +181,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addStringDefault(String columnName, String defaultValue) {
-        database.addColumn(columnName, "VARCHAR(255)", null, defaultValue);
+        addColumnDefinition(columnName, "VARCHAR(255)", null, defaultValue);
         return this;
     }
 
@@ -173,7 +193,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addStringDefault(String columnName, int length, String defaultValue) {
-        database.addColumn(columnName, "VARCHAR(" + length + ")", null, defaultValue);
+        addColumnDefinition(columnName, "VARCHAR(" + length + ")", null, defaultValue);
         return this;
     }
 
@@ -184,7 +204,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addIntegerDefault(String columnName, int defaultValue) {
-        database.addColumn(columnName, "INTEGER", null, defaultValue);
+        addColumnDefinition(columnName, "INTEGER", null, defaultValue);
         return this;
     }
 
@@ -195,7 +215,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addDoubleDefault(String columnName, double defaultValue) {
-        database.addColumn(columnName, "REAL", null, defaultValue);
+        addColumnDefinition(columnName, "REAL", null, defaultValue);
         return this;
     }
 
@@ -206,7 +226,7 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addBooleanDefault(String columnName, boolean defaultValue) {
-        database.addColumn(columnName, "BOOLEAN", null, defaultValue);
+        addColumnDefinition(columnName, "BOOLEAN", null, defaultValue);
         return this;
     }
 
@@ -217,7 +237,18 @@ public class TableBuilder {
      * @return TableBuilder nesnesi
      */
     public TableBuilder addTextDefault(String columnName, String defaultValue) {
-        database.addColumn(columnName, "TEXT", null, defaultValue);
+        addColumnDefinition(columnName, "TEXT", null, defaultValue);
         return this;
     }
+
+    /**
+     * Sütun tanımını bu builder'a ekler veya günceller
+     * @param name Sütun adı
+     * @param type Veri tipi
+     * @param constraints Kısıtlamalar
+     * @param defaultValue Varsayılan değer
+     */
+    private void addColumnDefinition(String name, String type, String constraints, Object defaultValue) {
+        columns.put(name, new DBManager.ColumnDefinition(name, type, constraints, defaultValue));
+    }
 }
\ No newline at end of file
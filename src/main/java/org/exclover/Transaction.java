@@ -0,0 +1,91 @@
+package org.exclover;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+/**
+ * Tek bir bağlantıya sabitlenmiş veritabanı transaction'ı.
+ * Transaction içindeki insert, update ve sorgular aynı thread'den çağrıldığı sürece aynı bağlantıyı kullanır
+ * ve tek seferde commit edilir. Asenkron çağrılar başka thread'lerde çalıştığı için transaction'a dahil olmaz.
+ */
+public class Transaction {
+
+    /**
+     * Transaction içinde çalışan, sonuç döndürmeyen iş
+     */
+    public interface Work {
+        void execute(Transaction tx) throws SQLException;
+    }
+
+    /**
+     * Transaction içinde çalışan, sonuç döndüren iş
+     */
+    public interface Callback<T> {
+        T execute(Transaction tx) throws SQLException;
+    }
+
+    private final DBManager database;
+    private final PooledConnection pooled;
+    private int savepointCounter = 0;
+
+    /**
+     * Transaction constructor
+     * @param database Database nesnesi
+     * @param pooled Transaction boyunca kullanılacak bağlantı
+     */
+    Transaction(DBManager database, PooledConnection pooled) {
+        this.database = database;
+        this.pooled = pooled;
+    }
+
+    /**
+     * Transaction'ın ait olduğu Database nesnesini döndürür
+     * @return Database nesnesi
+     */
+    public DBManager getDatabase() {
+        return database;
+    }
+
+    PooledConnection getPooledConnection() {
+        return pooled;
+    }
+
+    /**
+     * İşi iç içe bir savepoint içinde çalıştırır. İş başarısız olursa sadece savepoint'e kadar geri alınır,
+     * dıştaki transaction devam eder.
+     * @param work Çalıştırılacak iş
+     * @return Başarılı ise true, savepoint geri alındıysa false
+     */
+    public boolean savepoint(Work work) {
+        try {
+            savepointResult(tx -> {
+                work.execute(tx);
+                return null;
+            });
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("Savepoint rolled back: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * İşi iç içe bir savepoint içinde çalıştırır ve sonucunu döndürür
+     * @param callback Çalıştırılacak iş
+     * @return İşin sonucu
+     * @throws SQLException İş başarısız olursa (savepoint geri alındıktan sonra)
+     */
+    public <T> T savepointResult(Callback<T> callback) throws SQLException {
+        Connection connection = pooled.getConnection();
+        Savepoint savepoint = connection.setSavepoint("sp_" + (++savepointCounter));
+        try {
+            T result = callback.execute(this);
+            connection.releaseSavepoint(savepoint);
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback(savepoint);
+            throw e;
+        }
+    }
+}
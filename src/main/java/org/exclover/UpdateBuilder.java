@@ -0,0 +1,314 @@
+package org.exclover;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * UpdateBuilder sınıfı - Veri güncellemek için Fluent API sağlar.
+ * Tek bir WHERE koşuluyla güncelleme yapılabileceği gibi, anahtar sütununa göre çok sayıda kayıt
+ * JDBC batch veya CASE ifadeli çok satırlı UPDATE ile toplu olarak güncellenebilir.
+ */
+public class UpdateBuilder {
+    private final DBManager database;
+    private final String tableName;
+    private final Map<String, Object> values = new LinkedHashMap<>();
+    private String whereClause;
+    private Object[] whereParams = new Object[0];
+    private String keyColumn = "id";
+    private int batchSize = BatchSizer.DEFAULT_BATCH_SIZE;
+    private long adaptiveTargetMillis = -1;
+    private boolean caseUpdate = false;
+    private volatile BatchStats lastBatchStats;
+
+    /**
+     * UpdateBuilder constructor
+     * @param database Database nesnesi
+     * @param tableName Tablo adı
+     */
+    public UpdateBuilder(DBManager database, String tableName) {
+        this.database = database;
+        this.tableName = tableName;
+    }
+
+    /**
+     * String değeri ayarlar
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder setString(String columnName, String value) {
+        values.put(columnName, value != null ? value : "");
+        return this;
+    }
+
+    /**
+     * Integer değeri ayarlar
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder setInteger(String columnName, int value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Long değeri ayarlar
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder setLong(String columnName, long value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Double değeri ayarlar
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder setDouble(String columnName, double value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Boolean değeri ayarlar
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder setBoolean(String columnName, boolean value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Tarih değeri ayarlar
+     * @param columnName Sütun adı
+     * @param value Değer (java.util.Date)
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder setDate(String columnName, java.util.Date value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Sütunu NULL yapar
+     * @param columnName Sütun adı
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder setNull(String columnName) {
+        values.put(columnName, null);
+        return this;
+    }
+
+    /**
+     * Birden fazla değeri birlikte ayarlar
+     * @param values Sütun adı - değer eşlemeleri
+     * @return UpdateBuilder nesnesi
+     */
+    UpdateBuilder setAll(Map<String, Object> values) {
+        this.values.putAll(values);
+        return this;
+    }
+
+    /**
+     * Güncelleme koşulunu belirler
+     * @param whereClause Koşul (örn. "id = ?")
+     * @param params Koşul parametreleri
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder where(String whereClause, Object... params) {
+        this.whereClause = whereClause;
+        this.whereParams = params;
+        return this;
+    }
+
+    /**
+     * Toplu güncellemede satırları belirleyen anahtar sütununu belirler (varsayılan "id")
+     * @param keyColumn Sütun adı
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder key(String keyColumn) {
+        this.keyColumn = keyColumn;
+        return this;
+    }
+
+    /**
+     * Ayarlanan değerlerle koşula uyan satırları günceller
+     * @return Güncellenen satır sayısı, hata durumunda -1
+     */
+    public int execute() {
+        List<Object> allParams = new ArrayList<>();
+        String sql = buildUpdateQuery(allParams);
+        return database.executeUpdate(sql, allParams.toArray());
+    }
+
+    /**
+     * Ayarlanan değerlerle koşula uyan satırları asenkron günceller
+     * @param callback Sonuç callback'i
+     */
+    public void executeAsync(Consumer<Integer> callback) {
+        List<Object> allParams = new ArrayList<>();
+        String sql = buildUpdateQuery(allParams);
+        database.executeUpdateAsync(sql, callback, allParams.toArray());
+    }
+
+    /**
+     * Ayarlanan değerlerle koşula uyan satırları asenkron günceller
+     * @return Güncellenen satır sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Integer> executeAsync() {
+        List<Object> allParams = new ArrayList<>();
+        String sql = buildUpdateQuery(allParams);
+        return database.executeUpdateAsync(sql, allParams.toArray());
+    }
+
+    /**
+     * UPDATE sorgusunu oluşturur
+     * @param allParams Önce SET değerleri, sonra WHERE parametreleri ile doldurulur
+     * @return SQL sorgusu
+     */
+    private String buildUpdateQuery(List<Object> allParams) {
+        if (whereClause == null || whereClause.isEmpty()) {
+            throw new IllegalArgumentException("Güncelleme için WHERE koşulu gereklidir");
+        }
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("UPDATE ").append(tableName).append(" SET ");
+
+        boolean firstColumn = true;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (!firstColumn) {
+                sql.append(", ");
+            }
+            sql.append(entry.getKey()).append(" = ?");
+            allParams.add(entry.getValue());
+            firstColumn = false;
+        }
+
+        sql.append(" WHERE ").append(whereClause);
+
+        // WHERE parametreleri SET değerlerinden sonra gelir
+        Collections.addAll(allParams, whereParams);
+
+        return sql.toString();
+    }
+
+    /**
+     * Birden fazla kaydı anahtar sütununa göre tek transaction içinde toplu olarak günceller.
+     * Her kayıt anahtar sütununu ve güncellenecek sütunları içerir; sütunlar ilk kayıttan alınır.
+     * @param valuesList Kayıtlar
+     * @return İşlenen kayıt sayısı, hata durumunda -1
+     */
+    public int executeBatch(List<Map<String, Object>> valuesList) {
+        BatchStats stats = database.updateBatch(tableName, valuesList, keyColumn, newBatchSizer());
+        if (stats == null) {
+            return -1;
+        }
+        lastBatchStats = stats;
+        return stats.getRows();
+    }
+
+    /**
+     * Birden fazla kaydı anahtar sütununa göre toplu olarak asenkron günceller
+     * @param valuesList Kayıtlar
+     * @param callback Sonuç callback'i
+     */
+    public void executeBatchAsync(List<Map<String, Object>> valuesList, Consumer<Integer> callback) {
+        try {
+            database.runAsync(() -> executeBatch(valuesList), callback);
+        } catch (RejectedExecutionException e) {
+            System.err.println("Batch update rejected: " + e.getMessage());
+            if (callback != null) {
+                callback.accept(-1);
+            }
+        }
+    }
+
+    /**
+     * Birden fazla kaydı anahtar sütununa göre toplu olarak asenkron günceller
+     * @param valuesList Kayıtlar
+     * @return İşlenen kayıt sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Integer> executeBatchAsync(List<Map<String, Object>> valuesList) {
+        return database.updateBatchAsync(tableName, valuesList, keyColumn, newBatchSizer())
+                .thenApply(stats -> {
+                    lastBatchStats = stats;
+                    return stats.getRows();
+                });
+    }
+
+    /**
+     * executeBatch çağrılarında her seferde gönderilecek satır sayısını belirler (varsayılan 100)
+     * @param batchSize Batch boyutu
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch boyutu en az 1 olmalıdır");
+        }
+        this.batchSize = batchSize;
+        this.adaptiveTargetMillis = -1;
+        return this;
+    }
+
+    /**
+     * Batch boyutunu ölçülen batch süresine göre otomatik ayarlar (hedef 50 ms)
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder adaptiveBatchSize() {
+        return adaptiveBatchSize(BatchSizer.DEFAULT_TARGET_MILLIS);
+    }
+
+    /**
+     * Batch boyutunu ölçülen batch süresine göre otomatik ayarlar
+     * @param targetBatchMillis Bir batch için hedef süre (ms)
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder adaptiveBatchSize(long targetBatchMillis) {
+        if (targetBatchMillis < 1) {
+            throw new IllegalArgumentException("Hedef batch süresi en az 1 ms olmalıdır");
+        }
+        this.adaptiveTargetMillis = targetBatchMillis;
+        return this;
+    }
+
+    /**
+     * executeBatch çağrılarında her batch'i tek bir
+     * UPDATE ... SET c = CASE id WHEN ? THEN ? ... END WHERE id IN (...) ifadesiyle gönderir.
+     * İfade başına satır sayısı batch boyutu, SQLite parametre sınırı ve MySQL max_allowed_packet ile sınırlanır.
+     * Her satır WHEN listesini baştan taradığı için batch boyutu birkaç yüz satırı geçmemelidir;
+     * kazanç asıl olarak ağ gidiş-dönüşü olan MySQL'de görülür.
+     * @return UpdateBuilder nesnesi
+     */
+    public UpdateBuilder caseUpdate() {
+        this.caseUpdate = true;
+        return this;
+    }
+
+    /**
+     * Son toplu güncellemenin istatistiklerini döndürür
+     * @return BatchStats nesnesi, henüz toplu güncelleme yapılmadıysa null
+     */
+    public BatchStats getLastBatchStats() {
+        return lastBatchStats;
+    }
+
+    private BatchSizer newBatchSizer() {
+        BatchSizer sizer = adaptiveTargetMillis > 0
+                ? BatchSizer.adaptive(batchSize, adaptiveTargetMillis)
+                : BatchSizer.fixed(batchSize);
+        return caseUpdate ? sizer.multiRow() : sizer;
+    }
+}
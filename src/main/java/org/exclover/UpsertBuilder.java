@@ -0,0 +1,243 @@
+package org.exclover;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * UpsertBuilder sınıfı - Kayıt yoksa ekleyen, varsa güncelleyen Fluent API sağlar.
+ * SQLite'ta INSERT ... ON CONFLICT(...) DO UPDATE, MySQL'de INSERT ... ON DUPLICATE KEY UPDATE kullanılır;
+ * böylece "önce ara, sonra ekle veya güncelle" yerine tek sorgu yeterlidir.
+ * Çakışma sütunlarında UNIQUE indeks veya PRIMARY KEY bulunmalıdır.
+ */
+public class UpsertBuilder {
+    private final DBManager database;
+    private final String tableName;
+    private final Map<String, Object> values = new LinkedHashMap<>();
+    private List<String> conflictColumns = new ArrayList<>();
+    private List<String> updateColumns;
+    private int batchSize = BatchSizer.DEFAULT_BATCH_SIZE;
+    private long adaptiveTargetMillis = -1;
+    private boolean multiRowValues = false;
+    private volatile BatchStats lastBatchStats;
+
+    /**
+     * UpsertBuilder constructor
+     * @param database Database nesnesi
+     * @param tableName Tablo adı
+     */
+    public UpsertBuilder(DBManager database, String tableName) {
+        this.database = database;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Çakışmanın kontrol edileceği anahtar sütunlarını belirler
+     * @param columns Sütun adları (UNIQUE veya PRIMARY KEY)
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder onConflict(String... columns) {
+        this.conflictColumns = new ArrayList<>(Arrays.asList(columns));
+        return this;
+    }
+
+    /**
+     * Kayıt zaten varsa güncellenecek sütunları belirler.
+     * Belirtilmezse anahtar dışındaki tüm sütunlar güncellenir; boş bırakılırsa mevcut kayıt değiştirilmez.
+     * @param columns Sütun adları
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder update(String... columns) {
+        this.updateColumns = new ArrayList<>(Arrays.asList(columns));
+        return this;
+    }
+
+    /**
+     * String değeri ekler
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder setString(String columnName, String value) {
+        values.put(columnName, value != null ? value : "");
+        return this;
+    }
+
+    /**
+     * Integer değeri ekler
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder setInteger(String columnName, int value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Double değeri ekler
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder setDouble(String columnName, double value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Boolean değeri ekler
+     * @param columnName Sütun adı
+     * @param value Değer
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder setBoolean(String columnName, boolean value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Tarih değeri ekler
+     * @param columnName Sütun adı
+     * @param value Değer (java.util.Date)
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder setDate(String columnName, java.util.Date value) {
+        values.put(columnName, value);
+        return this;
+    }
+
+    /**
+     * Kaydı ekler, anahtar çakışırsa günceller
+     * @return Etkilenen satır sayısı (MySQL güncellenen satır için 2 döndürür), hata durumunda -1
+     */
+    public int execute() {
+        String sql = database.buildUpsertSql(tableName, new ArrayList<>(values.keySet()), conflictColumns, updateColumns);
+        return database.executeUpdate(sql, values.values().toArray());
+    }
+
+    /**
+     * Kaydı asenkron olarak ekler veya günceller
+     * @param callback Sonuç callback'i
+     */
+    public void executeAsync(Consumer<Integer> callback) {
+        String sql = database.buildUpsertSql(tableName, new ArrayList<>(values.keySet()), conflictColumns, updateColumns);
+        database.executeUpdateAsync(sql, callback, values.values().toArray());
+    }
+
+    /**
+     * Kaydı asenkron olarak ekler veya günceller
+     * @return Etkilenen satır sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Integer> executeAsync() {
+        String sql = database.buildUpsertSql(tableName, new ArrayList<>(values.keySet()), conflictColumns, updateColumns);
+        return database.executeUpdateAsync(sql, values.values().toArray());
+    }
+
+    /**
+     * Birden fazla kaydı tek transaction içinde toplu olarak upsert eder
+     * @param valuesList Kayıtlar (sütunlar ilk kayıttan alınır)
+     * @return İşlenen kayıt sayısı, hata durumunda -1
+     */
+    public int executeBatch(List<Map<String, Object>> valuesList) {
+        BatchStats stats = database.upsertBatch(tableName, valuesList, conflictColumns, updateColumns, newBatchSizer());
+        if (stats == null) {
+            return -1;
+        }
+        lastBatchStats = stats;
+        return stats.getRows();
+    }
+
+    /**
+     * Birden fazla kaydı toplu olarak asenkron upsert eder
+     * @param valuesList Kayıtlar
+     * @param callback Sonuç callback'i
+     */
+    public void executeBatchAsync(List<Map<String, Object>> valuesList, Consumer<Integer> callback) {
+        try {
+            database.runAsync(() -> executeBatch(valuesList), callback);
+        } catch (RejectedExecutionException e) {
+            System.err.println("Batch upsert rejected: " + e.getMessage());
+            if (callback != null) {
+                callback.accept(-1);
+            }
+        }
+    }
+
+    /**
+     * Birden fazla kaydı toplu olarak asenkron upsert eder
+     * @param valuesList Kayıtlar
+     * @return İşlenen kayıt sayısıyla tamamlanan future, hata durumunda SQLException ile tamamlanır
+     */
+    public CompletableFuture<Integer> executeBatchAsync(List<Map<String, Object>> valuesList) {
+        return database.upsertBatchAsync(tableName, valuesList, conflictColumns, updateColumns, newBatchSizer())
+                .thenApply(stats -> {
+                    lastBatchStats = stats;
+                    return stats.getRows();
+                });
+    }
+
+    /**
+     * executeBatch çağrılarında her seferde gönderilecek satır sayısını belirler (varsayılan 100)
+     * @param batchSize Batch boyutu
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch boyutu en az 1 olmalıdır");
+        }
+        this.batchSize = batchSize;
+        this.adaptiveTargetMillis = -1;
+        return this;
+    }
+
+    /**
+     * Batch boyutunu ölçülen batch süresine göre otomatik ayarlar (hedef 50 ms)
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder adaptiveBatchSize() {
+        return adaptiveBatchSize(BatchSizer.DEFAULT_TARGET_MILLIS);
+    }
+
+    /**
+     * Batch boyutunu ölçülen batch süresine göre otomatik ayarlar
+     * @param targetBatchMillis Bir batch için hedef süre (ms)
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder adaptiveBatchSize(long targetBatchMillis) {
+        if (targetBatchMillis < 1) {
+            throw new IllegalArgumentException("Hedef batch süresi en az 1 ms olmalıdır");
+        }
+        this.adaptiveTargetMillis = targetBatchMillis;
+        return this;
+    }
+
+    /**
+     * executeBatch çağrılarında satırları çok satırlı INSERT ... VALUES (...),(...) ifadeleriyle gönderir
+     * @return UpsertBuilder nesnesi
+     */
+    public UpsertBuilder multiRowValues() {
+        this.multiRowValues = true;
+        return this;
+    }
+
+    /**
+     * Son toplu işlemin istatistiklerini döndürür
+     * @return BatchStats nesnesi, henüz toplu işlem yapılmadıysa null
+     */
+    public BatchStats getLastBatchStats() {
+        return lastBatchStats;
+    }
+
+    private BatchSizer newBatchSizer() {
+        BatchSizer sizer = adaptiveTargetMillis > 0
+                ? BatchSizer.adaptive(batchSize, adaptiveTargetMillis)
+                : BatchSizer.fixed(batchSize);
+        return multiRowValues ? sizer.multiRow() : sizer;
+    }
+}
@@ -0,0 +1,222 @@
+package org.exclover;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Paralel toplu yükleme testleri; yerel sunucu yerine geçici bir SQLite dosyası kullanılır
+ */
+class BulkLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DBManager db;
+
+    @BeforeEach
+    void setUp() {
+        db = new DBManager(tempDir.resolve("bulk.db").toString());
+        db.executeUpdate("CREATE TABLE t (id INTEGER, name TEXT, score REAL)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        db.close();
+    }
+
+    @Test
+    void fromListSplitsIntoPartitions() {
+        LoadResult result = db.load("t").batchSize(500).parallelism(4).fromList(rows(5000));
+
+        assertNotNull(result);
+        assertTrue(result.isSuccessful());
+        assertEquals(4, result.getPartitions().size());
+        assertEquals(5000, result.getRows());
+        assertEquals(5000, count());
+        assertEquals(idSum(5000), idSumInTable());
+    }
+
+    @Test
+    void fromCsvSplitsFileIntoByteRanges() throws IOException {
+        Path csv = writeCsv(200_000, -1);
+
+        LoadResult result = db.load("t").parallelism(3).fromCsv(csv);
+
+        assertNotNull(result);
+        assertTrue(result.isSuccessful());
+        assertEquals(3, result.getPartitions().size());
+        assertEquals(200_000, result.getRows());
+        assertEquals(200_000, count());
+        // Bölüm sınırlarında satır kaybolmamalı veya iki kez eklenmemeli
+        assertEquals(idSum(200_000), idSumInTable());
+    }
+
+    @Test
+    void fromStreamLoadsAllRows() {
+        LoadResult result = db.load("t").batchSize(250).fromStream(rows(3000).stream());
+
+        assertNotNull(result);
+        assertTrue(result.isSuccessful());
+        assertEquals(3000, result.getRows());
+        assertEquals(3000, count());
+    }
+
+    @Test
+    void deferIndexesRestoresIndexAfterLoad() {
+        db.executeUpdate("CREATE INDEX idx_t_name ON t (name)");
+
+        LoadResult result = db.load("t").batchSize(500).deferIndexes().fromList(rows(2000));
+
+        assertNotNull(result);
+        assertTrue(result.isSuccessful());
+        assertTrue(result.getUnrestoredIndexes().isEmpty());
+        assertEquals(2000, count());
+        List<Map<String, Object>> index = db.executeQuery(
+                "SELECT sql FROM sqlite_master WHERE type = 'index' AND name = 'idx_t_name'");
+        assertEquals(1, index.size());
+        assertTrue(((String) index.get(0).get("sql")).contains("(name)"));
+    }
+
+    @Test
+    void failedPartitionIsRolledBackAndReported() throws IOException {
+        // Bozuk kayıt son bölümde; diğer bölümler yüklenmeye devam eder
+        Path csv = writeCsv(200_000, 199_000);
+
+        LoadResult result = db.load("t").parallelism(3).fromCsv(csv);
+
+        assertNotNull(result);
+        assertFalse(result.isSuccessful());
+        assertEquals(3, result.getPartitions().size());
+        assertEquals(1, result.getFailedPartitions().size());
+
+        LoadResult.Partition failed = result.getFailedPartitions().get(0);
+        assertEquals(2, failed.getIndex());
+        assertEquals(0, failed.getRows());
+        assertTrue(failed.getError().getMessage().contains("expected 3 fields"));
+
+        // Sonuçtaki satır sayısı tablodakiyle aynı olmalı
+        assertEquals(result.getRows(), count());
+        assertTrue(result.getRows() > 0);
+    }
+
+    @Test
+    void failedLoadDoesNotLeakRowsIntoNextLoad() throws IOException {
+        Path bad = tempDir.resolve("bad.csv");
+        Files.write(bad, "id,name,score\n1,stale1,1.0\n2,stale2,2.0\n3\n".getBytes(StandardCharsets.UTF_8));
+        Path good = tempDir.resolve("good.csv");
+        Files.write(good, "id,name,score\n4,fresh,4.0\n".getBytes(StandardCharsets.UTF_8));
+
+        LoadResult failed = db.load("t").fromCsv(bad);
+        LoadResult loaded = db.load("t").fromCsv(good);
+
+        assertEquals(0, failed.getRows());
+        assertEquals(1, failed.getFailedPartitions().size());
+        assertEquals(1, loaded.getRows());
+        assertEquals(1, count());
+    }
+
+    @Test
+    void failingStreamReleasesParallelWorkers() {
+        // Birden fazla yükleyicinin çalışması için yazma havuzu büyütülür
+        db.getConnectionPool().setMaxSize(3);
+        Iterator<Map<String, Object>> source = new Iterator<Map<String, Object>>() {
+            private int produced = 0;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (++produced > 50) {
+                    throw new IllegalStateException("source broken");
+                }
+                return row(produced);
+            }
+        };
+        Stream<Map<String, Object>> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(source, 0), false);
+
+        LoadResult result = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> db.load("t").batchSize(100).parallelism(3).fromStream(stream));
+
+        assertNotNull(result);
+        assertFalse(result.isSuccessful());
+        assertEquals(3, result.getFailedPartitions().size());
+        for (LoadResult.Partition partition : result.getFailedPartitions()) {
+            assertTrue(partition.getError().getMessage().contains("source broken"));
+        }
+        assertEquals(0, result.getRows());
+        // Yükleyiciler bağlantılarını geri vermiş olmalı
+        assertEquals(0, db.getConnectionPool().getActiveConnections());
+        assertEquals(0, count());
+    }
+
+    private static List<Map<String, Object>> rows(int count) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        IntStream.rangeClosed(1, count).forEach(i -> rows.add(row(i)));
+        return rows;
+    }
+
+    private static Map<String, Object> row(int id) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", "name" + id);
+        row.put("score", id / 2.0);
+        return row;
+    }
+
+    /**
+     * 1'den count'a kadar id'lerle CSV yazar; brokenRow > 0 ise o satır eksik alanla yazılır
+     */
+    private Path writeCsv(int count, int brokenRow) throws IOException {
+        Path csv = tempDir.resolve("rows.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write("id,name,score\n");
+            for (int i = 1; i <= count; i++) {
+                if (i == brokenRow) {
+                    writer.write(i + ",broken\n");
+                } else {
+                    writer.write(i + ",name" + i + "," + (i / 2.0) + "\n");
+                }
+            }
+        }
+        return csv;
+    }
+
+    private long count() {
+        return ((Number) db.executeQuery("SELECT COUNT(*) AS c FROM t").get(0).get("c")).longValue();
+    }
+
+    private long idSumInTable() {
+        return ((Number) db.executeQuery("SELECT SUM(id) AS s FROM t").get(0).get("s")).longValue();
+    }
+
+    private static long idSum(int count) {
+        return (long) count * (count + 1) / 2;
+    }
+}